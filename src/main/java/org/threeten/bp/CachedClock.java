@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+
+import java.io.Closeable;
+import java.util.concurrent.locks.LockSupport;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * A clock that returns a cached instant, refreshed from another clock by a background thread.
+ * <p>
+ * Reading this clock is a single volatile read, avoiding the cost of querying the
+ * underlying clock on each call. This suits code that reads the clock at a very
+ * high rate where a slightly stale instant is acceptable, such as logging.
+ * The instant returned lags the underlying clock by up to the refresh interval,
+ * plus any delay in scheduling the background thread.
+ * <p>
+ * Instances are obtained from {@link Clock#cached(Clock, Duration)}, which starts
+ * a daemon thread to refresh the instant. The thread runs until {@link #close()}
+ * is called, after which the clock reads the underlying clock directly.
+ * A clock obtained from {@link #withZone(ZoneId)} shares the instant and the
+ * thread with the clock it was obtained from, thus closing either closes both.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe.
+ * It is not {@code Serializable}, as the background thread cannot be serialized.
+ */
+public final class CachedClock extends Clock implements Closeable {
+
+    /**
+     * The shared state and background thread.
+     */
+    private final Ticker ticker;
+    /**
+     * The time-zone, not null.
+     */
+    private final ZoneId zone;
+
+    /**
+     * Creates a clock that caches the instant of the specified clock, starting the background thread.
+     *
+     * @param baseClock  the clock to cache, not null
+     * @param refreshNanos  the refresh interval in nanoseconds, positive
+     * @return the started clock, not null
+     */
+    static CachedClock start(Clock baseClock, long refreshNanos) {
+        Ticker ticker = new Ticker(baseClock, refreshNanos);
+        ticker.start();
+        return new CachedClock(ticker, baseClock.getZone());
+    }
+
+    private CachedClock(Ticker ticker, ZoneId zone) {
+        this.ticker = ticker;
+        this.zone = zone;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.zone)) {  // intentional NPE
+            return this;
+        }
+        return new CachedClock(ticker, zone);
+    }
+
+    @Override
+    public long millis() {
+        Instant instant = ticker.cachedInstant();
+        return (instant != null ? instant.toEpochMilli() : ticker.baseClock.millis());
+    }
+
+    @Override
+    public Instant instant() {
+        Instant instant = ticker.cachedInstant();
+        return (instant != null ? instant : ticker.baseClock.instant());
+    }
+
+    @Override
+    public long epochNanos() {
+        Instant instant = ticker.cachedInstant();
+        if (instant == null) {
+            return ticker.baseClock.epochNanos();
+        }
+        return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the background thread is refreshing the instant.
+     *
+     * @return true until the clock is closed, or the underlying clock fails
+     */
+    public boolean isRunning() {
+        return ticker.closed == false;
+    }
+
+    /**
+     * Stops the background thread, after which the clock reads the underlying clock directly.
+     * <p>
+     * This method returns without waiting for the thread to end.
+     * Calling this method more than once has no further effect.
+     */
+    @Override
+    public void close() {
+        ticker.close();
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof CachedClock) {
+            CachedClock other = (CachedClock) obj;
+            return ticker == other.ticker && zone.equals(other.zone);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(ticker) ^ zone.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CachedClock[" + ticker.baseClock + "," + Duration.ofNanos(ticker.refreshNanos) + "," + zone + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The background thread refreshing the cached instant.
+     */
+    private static final class Ticker extends Thread {
+        /** The clock to cache. */
+        private final Clock baseClock;
+        /** The refresh interval in nanoseconds. */
+        private final long refreshNanos;
+        /** The cached instant, null once closed. */
+        private volatile Instant instant;
+        /** Whether the thread should stop. */
+        private volatile boolean closed;
+
+        private Ticker(Clock baseClock, long refreshNanos) {
+            super("CachedClock-ticker");
+            this.baseClock = baseClock;
+            this.refreshNanos = refreshNanos;
+            this.instant = baseClock.instant();
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (closed == false) {
+                    LockSupport.parkNanos(this, refreshNanos);
+                    if (closed == false) {
+                        instant = baseClock.instant();
+                        if (closed) {
+                            // close() may have cleared the instant before the write
+                            instant = null;
+                        }
+                    }
+                }
+            } finally {
+                // read the underlying clock directly, including when it fails
+                instant = null;
+                closed = true;
+            }
+        }
+
+        /**
+         * Gets the cached instant.
+         * <p>
+         * The closed flag is checked after reading the instant, thus an instant
+         * written by the thread as it is closed is never returned once closed.
+         *
+         * @return the instant, null if closed
+         */
+        private Instant cachedInstant() {
+            Instant cached = instant;
+            return (cached != null && closed == false ? cached : null);
+        }
+
+        private void close() {
+            closed = true;
+            instant = null;
+            LockSupport.unpark(this);
+        }
+    }
+
+}
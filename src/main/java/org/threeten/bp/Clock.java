@@ -36,6 +36,7 @@ import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
 
 import java.io.Serializable;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
 
@@ -92,6 +93,15 @@ import org.threeten.bp.jdk8.Jdk8Methods;
  */
 public abstract class Clock {
 
+    /**
+     * The shared clock in the UTC time-zone.
+     */
+    private static final Clock SYSTEM_UTC = new SystemClock(ZoneOffset.UTC);
+    /**
+     * The shared clock in the system default time-zone, null until first queried.
+     */
+    private static volatile Clock systemDefaultZone;
+
     /**
      * Obtains a clock that returns the current instant using the best available
      * system clock, converting to date and time using the UTC time-zone.
@@ -111,7 +121,7 @@ public abstract class Clock {
      * @return a clock that uses the best available system clock in the UTC zone, not null
      */
     public static Clock systemUTC() {
-        return new SystemClock(ZoneOffset.UTC);
+        return SYSTEM_UTC;
     }
 
     /**
@@ -134,7 +144,13 @@ public abstract class Clock {
      * @see ZoneId#systemDefault()
      */
     public static Clock systemDefaultZone() {
-        return new SystemClock(ZoneId.systemDefault());
+        ZoneId zone = ZoneId.systemDefault();
+        Clock clock = systemDefaultZone;
+        if (clock == null || clock.getZone() != zone) {
+            clock = new SystemClock(zone);
+            systemDefaultZone = clock;
+        }
+        return clock;
     }
 
     /**
@@ -157,6 +173,36 @@ public abstract class Clock {
         return new SystemClock(zone);
     }
 
+    /**
+     * Obtains a clock that returns the current instant with nanosecond resolution
+     * using the system clock.
+     * <p>
+     * This clock measures the time elapsed using {@link System#nanoTime()} from a
+     * point calibrated against {@link System#currentTimeMillis()}.
+     * The calibration is checked against the system clock at least once a second.
+     * Any difference is corrected gradually, by running the clock at half speed while it
+     * is ahead of the system clock and one and a half times speed while it is behind,
+     * until it agrees to the millisecond. A clock more than half a second behind jumps forward.
+     * As such, the instants have nanosecond resolution, but the accuracy of the system clock.
+     * Corrections never move the clock backwards, even if the system clock is moved
+     * backwards, but a large backwards move of the system clock takes twice as long
+     * to be reflected.
+     * <p>
+     * The {@link #epochNanos()} method of this clock does not create any objects,
+     * making it suitable for timestamping events at a high rate.
+     * <p>
+     * Conversion from instant to date or time uses the specified time-zone.
+     * <p>
+     * The returned implementation is immutable, thread-safe and {@code Serializable}.
+     *
+     * @param zone  the time-zone to use to convert the instant to date-time, not null
+     * @return a clock that uses the nanosecond system clock in the specified zone, not null
+     */
+    public static Clock systemNanos(ZoneId zone) {
+        Jdk8Methods.requireNonNull(zone, "zone");
+        return new NanoClock(zone);
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains a clock that returns the current instant ticking in whole seconds
@@ -255,6 +301,36 @@ public abstract class Clock {
         return new TickClock(baseClock, tickNanos);
     }
 
+    /**
+     * Obtains a clock that returns the instant of the specified clock cached
+     * and refreshed at the specified interval by a background thread.
+     * <p>
+     * Reading the returned clock does not query the underlying clock, but
+     * returns the instant last obtained from it by the background thread.
+     * This is useful where the clock is read at a very high rate, and an instant
+     * up to the refresh interval out of date is acceptable.
+     * <p>
+     * The background thread is a daemon thread, started by this method.
+     * It must be stopped by calling {@link CachedClock#close()} once the clock
+     * is no longer needed, after which the clock reads the underlying clock directly.
+     * <p>
+     * The returned implementation is thread-safe, but not {@code Serializable}.
+     *
+     * @param baseClock  the base clock to cache the instant of, not null
+     * @param refreshInterval  the interval between refreshes, positive, not null
+     * @return a started clock caching the instant of the base clock, not null
+     * @throws IllegalArgumentException if the interval is zero or negative
+     * @throws ArithmeticException if the interval is too large to be represented as nanos
+     */
+    public static CachedClock cached(Clock baseClock, Duration refreshInterval) {
+        Jdk8Methods.requireNonNull(baseClock, "baseClock");
+        Jdk8Methods.requireNonNull(refreshInterval, "refreshInterval");
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("Refresh interval must be positive");
+        }
+        return CachedClock.start(baseClock, refreshInterval.toNanos());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains a clock that always returns the same instant.
@@ -367,6 +443,26 @@ public abstract class Clock {
      */
     public abstract Instant instant();
 
+    /**
+     * Gets the current nanosecond instant of the clock.
+     * <p>
+     * This returns the nanosecond-based instant, measured from 1970-01-01T00:00 UTC.
+     * A {@code long} can hold nanosecond instants between the years 1677 and 2262.
+     * <p>
+     * As with {@link #millis()}, this method is provided to allow the use of the
+     * clock in high performance use cases where the creation of an object would
+     * be unacceptable. The default implementation currently calls {@link #instant()}.
+     *
+     * @return the current nanosecond instant from this clock, measured from
+     *  the Java epoch of 1970-01-01T00:00 UTC
+     * @throws DateTimeException if the instant cannot be obtained, not thrown by most implementations
+     * @throws ArithmeticException if the instant is too large to be represented as nanos
+     */
+    public long epochNanos() {
+        Instant instant = instant();
+        return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this clock is equal to another clock.
@@ -423,6 +519,10 @@ public abstract class Clock {
             return Instant.ofEpochMilli(millis());
         }
         @Override
+        public long epochNanos() {
+            return Jdk8Methods.safeMultiply(millis(), 1000000);
+        }
+        @Override
         public boolean equals(Object obj) {
             if (obj instanceof SystemClock) {
                 return zone.equals(((SystemClock) obj).zone);
@@ -439,6 +539,160 @@ public abstract class Clock {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a clock that measures the time elapsed using
+     * {@link System#nanoTime()} from a point calibrated against
+     * {@link System#currentTimeMillis()}.
+     */
+    static final class NanoClock extends Clock implements Serializable {
+        private static final long serialVersionUID = -3315632870284377384L;
+        /**
+         * The interval in nanoseconds between checks of the calibration.
+         */
+        private static final long CHECK_NANOS = NANOS_PER_SECOND;
+        /**
+         * The calibration shared by all instances, replaced when checked.
+         */
+        private static final AtomicReference<Calibration> CALIBRATION =
+                new AtomicReference<Calibration>(Calibration.initial());
+        private final ZoneId zone;
+
+        NanoClock(ZoneId zone) {
+            this.zone = zone;
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {  // intentional NPE
+                return this;
+            }
+            return new NanoClock(zone);
+        }
+        @Override
+        public long millis() {
+            return Jdk8Methods.floorDiv(epochNanos(), 1000000);
+        }
+        @Override
+        public Instant instant() {
+            long nanos = epochNanos();
+            return Instant.ofEpochSecond(Jdk8Methods.floorDiv(nanos, NANOS_PER_SECOND), Jdk8Methods.floorMod(nanos, NANOS_PER_SECOND));
+        }
+        @Override
+        public long epochNanos() {
+            // read the calibration first, so that the time is never before its start
+            Calibration cal = CALIBRATION.get();
+            long nanoTime = System.nanoTime();
+            if (nanoTime - cal.nanoTime >= CHECK_NANOS) {
+                // only one thread replaces each calibration, so a newer one is never overwritten
+                Calibration checked = cal.check(nanoTime, System.currentTimeMillis());
+                if (CALIBRATION.compareAndSet(cal, checked)) {
+                    cal = checked;
+                } else {
+                    cal = CALIBRATION.get();
+                    nanoTime = System.nanoTime();
+                }
+            }
+            return cal.epochNanos(nanoTime);
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof NanoClock) {
+                return zone.equals(((NanoClock) obj).zone);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return zone.hashCode() + 2;
+        }
+        @Override
+        public String toString() {
+            return "NanoClock[" + zone + "]";
+        }
+
+        /**
+         * A point on the time-line as both an epoch nanosecond and a {@code nanoTime} value,
+         * with a correction still to be applied.
+         * <p>
+         * The correction is applied at up to half the elapsed time, thus the clock runs
+         * between half and one and a half times speed until it has been applied.
+         * Package-private for testing.
+         */
+        static final class Calibration {
+            /** The proportion of the elapsed time that may be corrected, as a divisor. */
+            private static final long SLEW_DIVISOR = 2;
+            /** The largest amount behind the system clock that is corrected gradually. */
+            private static final long MAX_SLEW_NANOS = CHECK_NANOS / SLEW_DIVISOR;
+            /** The epoch nanosecond. */
+            private final long epochNanos;
+            /** The {@code System.nanoTime()} value at the same point. */
+            private final long nanoTime;
+            /** The correction to apply, negative to slow the clock. */
+            private final long correction;
+
+            Calibration(long epochNanos, long nanoTime, long correction) {
+                this.epochNanos = epochNanos;
+                this.nanoTime = nanoTime;
+                this.correction = correction;
+            }
+
+            private static Calibration initial() {
+                long nanoTime = System.nanoTime();
+                return new Calibration(System.currentTimeMillis() * 1000000, nanoTime, 0);
+            }
+
+            /**
+             * Gets the epoch nanosecond at a {@code nanoTime} not before this calibration.
+             *
+             * @param nanoTime  the {@code System.nanoTime()} value
+             * @return the epoch nanosecond
+             */
+            long epochNanos(long nanoTime) {
+                long elapsed = nanoTime - this.nanoTime;
+                long applied = elapsed / SLEW_DIVISOR;
+                if (correction < 0) {
+                    applied = Math.max(correction, -applied);
+                } else {
+                    applied = Math.min(correction, applied);
+                }
+                return epochNanos + elapsed + applied;
+            }
+
+            /**
+             * Checks the calibration against the system clock, returning the next calibration.
+             * <p>
+             * The system clock only gives the millisecond, so any estimate within that
+             * millisecond agrees with it. The next calibration starts from the current
+             * estimate, never moving it backwards, with a correction towards the nearest
+             * nanosecond within the millisecond. An estimate too far behind to be corrected
+             * before the next check jumps forward instead.
+             *
+             * @param nanoTime  the current {@code System.nanoTime()}, not before this calibration
+             * @param millis  the current {@code System.currentTimeMillis()}
+             * @return the calibration at the specified {@code nanoTime}, not null
+             */
+            Calibration check(long nanoTime, long millis) {
+                long estimate = epochNanos(nanoTime);
+                long min = millis * 1000000;
+                long max = min + 999999;
+                if (estimate > max) {
+                    return new Calibration(estimate, nanoTime, max - estimate);
+                }
+                if (estimate < min - MAX_SLEW_NANOS) {
+                    return new Calibration(min, nanoTime, 0);
+                }
+                if (estimate < min) {
+                    return new Calibration(estimate, nanoTime, min - estimate);
+                }
+                return new Calibration(estimate, nanoTime, 0);
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implementation of a clock that always returns the same instant.
@@ -523,6 +777,10 @@ public abstract class Clock {
             return baseClock.instant().plus(offset);
         }
         @Override
+        public long epochNanos() {
+            return Jdk8Methods.safeAdd(baseClock.epochNanos(), offset.toNanos());
+        }
+        @Override
         public boolean equals(Object obj) {
             if (obj instanceof OffsetClock) {
                 OffsetClock other = (OffsetClock) obj;
@@ -128,7 +128,7 @@ public final class LocalDate
     /**
      * The number of days in a 400 year cycle.
      */
-    private static final int DAYS_PER_CYCLE = 146097;
+    static final int DAYS_PER_CYCLE = 146097;
     /**
      * The number of days from year zero to year 1970.
      * There are five 400 year cycles from year zero to 2000.
@@ -273,12 +273,26 @@ public final class LocalDate
      * <p>
      * The Epoch Day count is a simple incrementing count of days
      * where day 0 is 1970-01-01. Negative numbers represent earlier days.
+     * <p>
+     * Dates within a range of years can be obtained from a table instead of
+     * being calculated, by setting the system properties
+     * {@code org.threeten.bp.LocalDate.cacheMinYear} and
+     * {@code org.threeten.bp.LocalDate.cacheMaxYear}.
+     * The range is limited to 1000 years, and each cached year uses about 10kb.
+     * The table is created on first use and holds shared instances.
      *
      * @param epochDay  the Epoch Day to convert, based on the epoch 1970-01-01
      * @return the local date, not null
      * @throws DateTimeException if the epoch days exceeds the supported date range
      */
     public static LocalDate ofEpochDay(long epochDay) {
+        EpochDayCache cache = EpochDayCache.SHARED;
+        if (cache != null) {
+            LocalDate cached = cache.get(epochDay);
+            if (cached != null) {
+                return cached;
+            }
+        }
         EPOCH_DAY.checkValidValue(epochDay);
         long zeroDay = epochDay + DAYS_0000_TO_1970;
         // find the march-based year
@@ -1886,4 +1900,107 @@ public final class LocalDate
         return LocalDate.of(year, month, dayOfMonth);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * A table of the dates in a range of years, indexed by epoch day.
+     */
+    static final class EpochDayCache {
+        /**
+         * The maximum number of years in the table.
+         */
+        static final int MAX_YEARS = 1000;
+        /**
+         * The shared table, null if disabled.
+         */
+        static final EpochDayCache SHARED = create();
+
+        /**
+         * The epoch day of the first date.
+         */
+        private final long firstEpochDay;
+        /**
+         * The dates, from the first.
+         */
+        private final LocalDate[] dates;
+
+        private static EpochDayCache create() {
+            try {
+                return create(
+                        Integer.getInteger("org.threeten.bp.LocalDate.cacheMinYear"),
+                        Integer.getInteger("org.threeten.bp.LocalDate.cacheMaxYear"));
+            } catch (SecurityException ex) {
+                return null;  // disabled
+            }
+        }
+
+        /**
+         * Creates a table for the configured range, clamped to the valid years.
+         *
+         * @param minYear  the first year, null if not configured
+         * @param maxYear  the last year, null if not configured
+         * @return the table, null if disabled or the clamped range is empty
+         */
+        static EpochDayCache create(Integer minYear, Integer maxYear) {
+            if (minYear == null || maxYear == null) {
+                return null;
+            }
+            long min = Math.max(minYear, Year.MIN_VALUE);
+            long max = Math.min(Math.min(maxYear, Year.MAX_VALUE), min + MAX_YEARS - 1);
+            if (max < min) {
+                return null;
+            }
+            try {
+                return new EpochDayCache((int) min, (int) max);
+            } catch (DateTimeException ex) {
+                return null;  // disabled
+            }
+        }
+
+        /**
+         * Creates a table of the dates from the start of the minimum year to
+         * the end of the maximum year.
+         *
+         * @param minYear  the first year, valid
+         * @param maxYear  the last year, valid, not before the minimum year
+         */
+        EpochDayCache(int minYear, int maxYear) {
+            firstEpochDay = LocalDate.of(minYear, 1, 1).toEpochDay();
+            long lastEpochDay = LocalDate.of(maxYear, 12, 31).toEpochDay();
+            dates = new LocalDate[Jdk8Methods.safeToInt(lastEpochDay - firstEpochDay + 1)];
+            int year = minYear;
+            int month = 1;
+            int day = 1;
+            int monthLength = 31;
+            for (int i = 0; i < dates.length; i++) {
+                dates[i] = new LocalDate(year, month, day);
+                if (day < monthLength) {
+                    day++;
+                } else {
+                    day = 1;
+                    if (month < 12) {
+                        month++;
+                    } else {
+                        month = 1;
+                        year++;
+                    }
+                    monthLength = Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year));
+                }
+            }
+        }
+
+        /**
+         * Gets the date for the epoch day.
+         *
+         * @param epochDay  the epoch day
+         * @return the date, null if outside the table
+         */
+        LocalDate get(long epochDay) {
+            long index = epochDay - firstEpochDay;
+            if (index >= 0 && index < dates.length) {
+                return dates[(int) index];
+            }
+            return null;
+        }
+    }
+
 }
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.LocalTime.NANOS_PER_DAY;
+import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * A set of utilities to encode date-time values as primitives.
+ * <p>
+ * The encodings are intended for off-heap caches and columnar stores.
+ * Each encoding preserves order, thus comparing two encoded values as signed
+ * primitives gives the same result as comparing the date-time objects.
+ * The field accessors operate directly on the encoded value, allowing fields
+ * to be extracted without creating any objects.
+ * <p>
+ * The field accessors do not validate the encoded value.
+ * Passing a value that was not produced by the matching encoding method
+ * returns an undefined result, whereas the decoding methods will throw an exception.
+ * <p>
+ * This class is not found in Java SE 8.
+ */
+public final class PackedDateTimes {
+
+    /**
+     * The minimum year that can be encoded as a packed date, -4,194,304.
+     */
+    public static final int MIN_PACKED_YEAR = -(1 << 22);
+    /**
+     * The maximum year that can be encoded as a packed date, 4,194,303.
+     */
+    public static final int MAX_PACKED_YEAR = (1 << 22) - 1;
+
+    /**
+     * Restricted constructor.
+     */
+    private PackedDateTimes() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Encodes a date as an {@code int}.
+     * <p>
+     * The year occupies the upper 23 bits, the month the next 4 bits and the
+     * day-of-month the lowest 5 bits.
+     *
+     * @param date  the date to encode, not null
+     * @return the packed date
+     * @throws DateTimeException if the year is outside the packed range
+     */
+    public static int packDate(LocalDate date) {
+        Jdk8Methods.requireNonNull(date, "date");
+        int year = date.getYear();
+        if (year < MIN_PACKED_YEAR || year > MAX_PACKED_YEAR) {
+            throw new DateTimeException("Unable to pack date as year is out of range: " + date);
+        }
+        return pack(year, date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Decodes a date from an {@code int}.
+     *
+     * @param packedDate  the packed date
+     * @return the date, not null
+     * @throws DateTimeException if the packed value is not a valid date
+     */
+    public static LocalDate unpackDate(int packedDate) {
+        return LocalDate.of(dateYear(packedDate), dateMonth(packedDate), dateDayOfMonth(packedDate));
+    }
+
+    /**
+     * Gets the year from a packed date.
+     *
+     * @param packedDate  the packed date
+     * @return the year
+     */
+    public static int dateYear(int packedDate) {
+        return packedDate >> 9;
+    }
+
+    /**
+     * Gets the month-of-year from a packed date.
+     *
+     * @param packedDate  the packed date
+     * @return the month-of-year, from 1 to 12
+     */
+    public static int dateMonth(int packedDate) {
+        return (packedDate >> 5) & 0xF;
+    }
+
+    /**
+     * Gets the day-of-month from a packed date.
+     *
+     * @param packedDate  the packed date
+     * @return the day-of-month, from 1 to 31
+     */
+    public static int dateDayOfMonth(int packedDate) {
+        return packedDate & 0x1F;
+    }
+
+    private static int pack(int year, int month, int dayOfMonth) {
+        return (year << 9) | (month << 5) | dayOfMonth;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Encodes a time as a {@code long}.
+     * <p>
+     * From the highest bit used, the hour occupies 5 bits, the minute 6 bits,
+     * the second 6 bits and the nanosecond the lowest 30 bits.
+     *
+     * @param time  the time to encode, not null
+     * @return the packed time
+     */
+    public static long packTime(LocalTime time) {
+        Jdk8Methods.requireNonNull(time, "time");
+        return pack(time.getHour(), time.getMinute(), time.getSecond(), time.getNano());
+    }
+
+    /**
+     * Decodes a time from a {@code long}.
+     *
+     * @param packedTime  the packed time
+     * @return the time, not null
+     * @throws DateTimeException if the packed value is not a valid time
+     */
+    public static LocalTime unpackTime(long packedTime) {
+        if ((packedTime >>> 47) != 0) {
+            throw new DateTimeException("Invalid packed time: " + packedTime);
+        }
+        return LocalTime.of(timeHour(packedTime), timeMinute(packedTime), timeSecond(packedTime), timeNano(packedTime));
+    }
+
+    /**
+     * Gets the hour-of-day from a packed time.
+     *
+     * @param packedTime  the packed time
+     * @return the hour-of-day, from 0 to 23
+     */
+    public static int timeHour(long packedTime) {
+        return (int) (packedTime >>> 42);
+    }
+
+    /**
+     * Gets the minute-of-hour from a packed time.
+     *
+     * @param packedTime  the packed time
+     * @return the minute-of-hour, from 0 to 59
+     */
+    public static int timeMinute(long packedTime) {
+        return (int) (packedTime >>> 36) & 0x3F;
+    }
+
+    /**
+     * Gets the second-of-minute from a packed time.
+     *
+     * @param packedTime  the packed time
+     * @return the second-of-minute, from 0 to 59
+     */
+    public static int timeSecond(long packedTime) {
+        return (int) (packedTime >>> 30) & 0x3F;
+    }
+
+    /**
+     * Gets the nano-of-second from a packed time.
+     *
+     * @param packedTime  the packed time
+     * @return the nano-of-second, from 0 to 999,999,999
+     */
+    public static int timeNano(long packedTime) {
+        return (int) packedTime & 0x3FFFFFFF;
+    }
+
+    private static long pack(int hour, int minute, int second, int nano) {
+        return ((long) hour << 42) | ((long) minute << 36) | ((long) second << 30) | nano;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Encodes a date-time as a {@code long}.
+     * <p>
+     * The encoded value is the number of nanoseconds from 1970-01-01T00:00,
+     * which can represent date-times from 1677-09-21T00:12:43.145224192
+     * to 2262-04-11T23:47:16.854775807.
+     *
+     * @param dateTime  the date-time to encode, not null
+     * @return the packed date-time
+     * @throws DateTimeException if the date-time is outside the packed range
+     */
+    public static long packDateTime(LocalDateTime dateTime) {
+        Jdk8Methods.requireNonNull(dateTime, "dateTime");
+        try {
+            return nanos(dateTime.toLocalDate().toEpochDay(), NANOS_PER_DAY, dateTime.toLocalTime().toNanoOfDay());
+        } catch (ArithmeticException ex) {
+            throw new DateTimeException("Unable to pack date-time as it is out of range: " + dateTime, ex);
+        }
+    }
+
+    /**
+     * Decodes a date-time from a {@code long}.
+     *
+     * @param packedDateTime  the packed date-time
+     * @return the date-time, not null
+     */
+    public static LocalDateTime unpackDateTime(long packedDateTime) {
+        long epochDay = Jdk8Methods.floorDiv(packedDateTime, NANOS_PER_DAY);
+        long nanoOfDay = Jdk8Methods.floorMod(packedDateTime, NANOS_PER_DAY);
+        return LocalDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /**
+     * Gets the date from a packed date-time as a packed date.
+     * <p>
+     * The fields can then be obtained using {@link #dateYear(int)},
+     * {@link #dateMonth(int)} and {@link #dateDayOfMonth(int)}.
+     *
+     * @param packedDateTime  the packed date-time
+     * @return the packed date
+     */
+    public static int dateTimeDate(long packedDateTime) {
+        // same algorithm as LocalDate.ofEpochDay, but the range of a packed
+        // date-time means that the march-based day is always positive
+        long zeroDay = Jdk8Methods.floorDiv(packedDateTime, NANOS_PER_DAY) + LocalDate.DAYS_0000_TO_1970 - 60;
+        long yearEst = (400 * zeroDay + 591) / LocalDate.DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        return pack((int) yearEst + marchMonth0 / 10, month, dom);
+    }
+
+    /**
+     * Gets the time from a packed date-time as a packed time.
+     * <p>
+     * The fields can then be obtained using {@link #timeHour(long)},
+     * {@link #timeMinute(long)}, {@link #timeSecond(long)} and {@link #timeNano(long)}.
+     *
+     * @param packedDateTime  the packed date-time
+     * @return the packed time
+     */
+    public static long dateTimeTime(long packedDateTime) {
+        long nanoOfDay = Jdk8Methods.floorMod(packedDateTime, NANOS_PER_DAY);
+        int secondOfDay = (int) (nanoOfDay / NANOS_PER_SECOND);
+        int nano = (int) (nanoOfDay - secondOfDay * NANOS_PER_SECOND);
+        return pack(secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60, nano);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Encodes an instant as a {@code long}.
+     * <p>
+     * The encoded value is the number of nanoseconds from 1970-01-01T00:00Z,
+     * which can represent instants from 1677-09-21T00:12:43.145224192Z
+     * to 2262-04-11T23:47:16.854775807Z.
+     * Instants outside this range can be stored without loss as the pair of
+     * {@link Instant#getEpochSecond()} and {@link Instant#getNano()}, which
+     * also preserves order when compared seconds first.
+     *
+     * @param instant  the instant to encode, not null
+     * @return the packed instant
+     * @throws DateTimeException if the instant is outside the packed range
+     */
+    public static long packInstant(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        try {
+            return nanos(instant.getEpochSecond(), NANOS_PER_SECOND, instant.getNano());
+        } catch (ArithmeticException ex) {
+            throw new DateTimeException("Unable to pack instant as it is out of range: " + instant, ex);
+        }
+    }
+
+    /**
+     * Decodes an instant from a {@code long}.
+     *
+     * @param packedInstant  the packed instant
+     * @return the instant, not null
+     */
+    public static Instant unpackInstant(long packedInstant) {
+        return Instant.ofEpochSecond(0, packedInstant);
+    }
+
+    private static long nanos(long units, long nanosPerUnit, long nanoOfUnit) {
+        if (units < 0 && nanoOfUnit > 0) {
+            // avoid overflow at the bottom of the range
+            return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(units + 1, nanosPerUnit), nanoOfUnit - nanosPerUnit);
+        }
+        return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(units, nanosPerUnit), nanoOfUnit);
+    }
+
+}
@@ -228,6 +228,10 @@ public abstract class ZoneId implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 8352817235686L;
+    /**
+     * The cached system default zone, null until first queried.
+     */
+    private static volatile SystemDefault systemDefault;
 
     //-----------------------------------------------------------------------
     /**
@@ -236,13 +240,24 @@ public abstract class ZoneId implements Serializable {
      * This queries {@link TimeZone#getDefault()} to find the default time-zone
      * and converts it to a {@code ZoneId}. If the system default time-zone is changed,
      * then the result of this method will also change.
+     * <p>
+     * The converted zone is cached, thus the same instance is returned until the
+     * ID of the default time-zone changes or the rules are refreshed.
      *
      * @return the zone ID, not null
      * @throws DateTimeException if the converted zone ID has an invalid format
      * @throws ZoneRulesException if the converted zone region ID cannot be found
      */
     public static ZoneId systemDefault() {
-        return ZoneId.of(TimeZone.getDefault().getID(), SHORT_IDS);
+        String id = TimeZone.getDefault().getID();
+        int refreshCount = ZoneRulesProvider.getRefreshCount();
+        SystemDefault cached = systemDefault;
+        if (cached != null && cached.refreshCount == refreshCount && cached.timeZoneId.equals(id)) {
+            return cached.zone;
+        }
+        ZoneId zone = ZoneId.of(id, SHORT_IDS);
+        systemDefault = new SystemDefault(id, refreshCount, zone);
+        return zone;
     }
 
     /**
@@ -338,22 +353,14 @@ public abstract class ZoneId implements Serializable {
             return ZoneOffset.of(zoneId);
         }
         if (zoneId.equals("UTC") || zoneId.equals("GMT") || zoneId.equals("UT")) {
-            return new ZoneRegion(zoneId, ZoneOffset.UTC.getRules());
+            return ZoneRegion.ofPrefixedOffset(zoneId, ZoneOffset.UTC);
         }
         if (zoneId.startsWith("UTC+") || zoneId.startsWith("GMT+") ||
                 zoneId.startsWith("UTC-") || zoneId.startsWith("GMT-")) {
-            ZoneOffset offset = ZoneOffset.of(zoneId.substring(3));
-            if (offset.getTotalSeconds() == 0) {
-                return new ZoneRegion(zoneId.substring(0, 3), offset.getRules());
-            }
-            return new ZoneRegion(zoneId.substring(0, 3) + offset.getId(), offset.getRules());
+            return ZoneRegion.ofPrefixedOffset(zoneId.substring(0, 3), ZoneOffset.of(zoneId.substring(3)));
         }
         if (zoneId.startsWith("UT+") || zoneId.startsWith("UT-")) {
-            ZoneOffset offset = ZoneOffset.of(zoneId.substring(2));
-            if (offset.getTotalSeconds() == 0) {
-                return new ZoneRegion("UT", offset.getRules());
-            }
-            return new ZoneRegion("UT" + offset.getId(), offset.getRules());
+            return ZoneRegion.ofPrefixedOffset("UT", ZoneOffset.of(zoneId.substring(2)));
         }
         return ZoneRegion.ofId(zoneId, true);
     }
@@ -378,10 +385,7 @@ public abstract class ZoneId implements Serializable {
             return offset;
         }
         if (prefix.equals("GMT") || prefix.equals("UTC") || prefix.equals("UT")) {
-            if (offset.getTotalSeconds() == 0) {
-                return new ZoneRegion(prefix, offset.getRules());
-            }
-            return new ZoneRegion(prefix + offset.getId(), offset.getRules());
+            return ZoneRegion.ofPrefixedOffset(prefix, offset);
         }
         throw new IllegalArgumentException("Invalid prefix, must be GMT, UTC or UT: " + prefix);
     }
@@ -562,4 +566,24 @@ public abstract class ZoneId implements Serializable {
     //-----------------------------------------------------------------------
     abstract void write(DataOutput out) throws IOException;
 
+    //-----------------------------------------------------------------------
+    /**
+     * The system default zone, valid while the default {@code TimeZone} ID
+     * and the refresh count of the rules are unchanged.
+     */
+    private static final class SystemDefault {
+        /** The ID of the default {@code TimeZone}. */
+        private final String timeZoneId;
+        /** The refresh count that the zone is valid for. */
+        private final int refreshCount;
+        /** The zone. */
+        private final ZoneId zone;
+
+        private SystemDefault(String timeZoneId, int refreshCount, ZoneId zone) {
+            this.timeZoneId = timeZoneId;
+            this.refreshCount = refreshCount;
+            this.zone = zone;
+        }
+    }
+
 }
@@ -39,8 +39,6 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
@@ -100,11 +98,6 @@ public final class ZoneOffset
         }
     };
 
-    /** Cache of time-zone offset by offset in seconds. */
-    private static final ConcurrentMap<Integer, ZoneOffset> SECONDS_CACHE = new ConcurrentHashMap<Integer, ZoneOffset>(16, 0.75f, 4);
-    /** Cache of time-zone offset by ID. */
-    private static final ConcurrentMap<String, ZoneOffset> ID_CACHE = new ConcurrentHashMap<String, ZoneOffset>(16, 0.75f, 4);
-
     /**
      * The number of seconds per hour.
      */
@@ -125,6 +118,24 @@ public final class ZoneOffset
      * Serialization version.
      */
     private static final long serialVersionUID = 2357656521762053153L;
+    /**
+     * The number of seconds per quarter hour.
+     */
+    private static final int SECONDS_PER_QUARTER = 15 * SECONDS_PER_MINUTE;
+    /**
+     * The number of quarter hours in the maximum offset.
+     */
+    private static final int MAX_QUARTERS = MAX_SECONDS / SECONDS_PER_QUARTER;
+    /**
+     * Cache of time-zone offsets that are a whole number of quarter hours,
+     * indexed by the number of quarter hours plus {@code MAX_QUARTERS}.
+     */
+    private static final ZoneOffset[] QUARTER_CACHE = new ZoneOffset[MAX_QUARTERS * 2 + 1];
+    static {
+        for (int i = 0; i < QUARTER_CACHE.length; i++) {
+            QUARTER_CACHE[i] = new ZoneOffset((i - MAX_QUARTERS) * SECONDS_PER_QUARTER);
+        }
+    }
 
     /**
      * The time-zone offset for UTC, with an ID of 'Z'.
@@ -181,8 +192,8 @@ public final class ZoneOffset
      */
     public static ZoneOffset of(String offsetId) {
         Jdk8Methods.requireNonNull(offsetId, "offsetId");
-        // "Z" is always in the cache
-        ZoneOffset offset = ID_CACHE.get(offsetId);
+        // "Z" and the common quarter hour formats are resolved directly from the cache
+        ZoneOffset offset = ofQuarterHourId(offsetId);
         if (offset != null) {
             return offset;
         }
@@ -231,6 +242,60 @@ public final class ZoneOffset
         }
     }
 
+    /**
+     * Obtains a cached instance for the "Z", +hh, +hhmm and +hh:mm formats.
+     * <p>
+     * The ID is mapped directly to the index of the cache, without validation
+     * of other formats, which are left to the full parse.
+     *
+     * @param offsetId  the offset ID, not null
+     * @return the cached zone-offset, null if not a whole number of quarter hours in a supported format
+     */
+    private static ZoneOffset ofQuarterHourId(String offsetId) {
+        int length = offsetId.length();
+        if (length == 1) {
+            return (offsetId.charAt(0) == 'Z' ? QUARTER_CACHE[MAX_QUARTERS] : null);
+        }
+        if (length != 3 && length != 5 && length != 6) {
+            return null;
+        }
+        char sign = offsetId.charAt(0);
+        if (sign != '+' && sign != '-') {
+            return null;
+        }
+        int hours = parseDigits(offsetId, 1);
+        int minutes = 0;
+        if (length == 5) {
+            minutes = parseDigits(offsetId, 3);
+        } else if (length == 6) {
+            minutes = (offsetId.charAt(3) == ':' ? parseDigits(offsetId, 4) : -1);
+        }
+        if (hours < 0 || minutes < 0 || minutes % 15 != 0 || minutes > 45) {
+            return null;
+        }
+        int quarters = hours * 4 + minutes / 15;
+        if (quarters > MAX_QUARTERS) {
+            return null;
+        }
+        return QUARTER_CACHE[(sign == '-' ? -quarters : quarters) + MAX_QUARTERS];
+    }
+
+    /**
+     * Parse a two digit zero-prefixed number, without throwing an exception.
+     *
+     * @param offsetId  the offset ID, not null
+     * @param pos  the position to parse, valid
+     * @return the parsed number, from 0 to 99, or -1 if not numeric
+     */
+    private static int parseDigits(String offsetId, int pos) {
+        char ch1 = offsetId.charAt(pos);
+        char ch2 = offsetId.charAt(pos + 1);
+        if (ch1 < '0' || ch1 > '9' || ch2 < '0' || ch2 > '9') {
+            return -1;
+        }
+        return (ch1 - 48) * 10 + (ch2 - 48);
+    }
+
     /**
      * Parse a two digit zero-prefixed number.
      *
@@ -260,7 +325,8 @@ public final class ZoneOffset
      * @throws DateTimeException if the offset is not in the required range
      */
     public static ZoneOffset ofHours(int hours) {
-        return ofHoursMinutesSeconds(hours, 0, 0);
+        validate(hours, 0, 0);
+        return QUARTER_CACHE[hours * 4 + MAX_QUARTERS];
     }
 
     /**
@@ -277,7 +343,11 @@ public final class ZoneOffset
      * @throws DateTimeException if the offset is not in the required range
      */
     public static ZoneOffset ofHoursMinutes(int hours, int minutes) {
-        return ofHoursMinutesSeconds(hours, minutes, 0);
+        validate(hours, minutes, 0);
+        if (minutes % 15 == 0) {
+            return QUARTER_CACHE[hours * 4 + minutes / 15 + MAX_QUARTERS];
+        }
+        return new ZoneOffset(totalSeconds(hours, minutes, 0));
     }
 
     /**
@@ -389,16 +459,8 @@ public final class ZoneOffset
         if (Math.abs(totalSeconds) > MAX_SECONDS) {
             throw new DateTimeException("Zone offset not in valid range: -18:00 to +18:00");
         }
-        if (totalSeconds % (15 * SECONDS_PER_MINUTE) == 0) {
-            Integer totalSecs = totalSeconds;
-            ZoneOffset result = SECONDS_CACHE.get(totalSecs);
-            if (result == null) {
-                result = new ZoneOffset(totalSeconds);
-                SECONDS_CACHE.putIfAbsent(totalSecs, result);
-                result = SECONDS_CACHE.get(totalSecs);
-                ID_CACHE.putIfAbsent(result.getId(), result);
-            }
-            return result;
+        if (totalSeconds % SECONDS_PER_QUARTER == 0) {
+            return QUARTER_CACHE[totalSeconds / SECONDS_PER_QUARTER + MAX_QUARTERS];
         } else {
             return new ZoneOffset(totalSeconds);
         }
@@ -37,6 +37,8 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
@@ -72,6 +74,18 @@ final class ZoneRegion extends ZoneId implements Serializable {
      * The regex pattern for region IDs.
      */
     private static final Pattern PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9~/._+-]+");
+    /**
+     * The prefixes that may be combined with an offset.
+     */
+    private static final String[] PREFIXES = {"UTC", "GMT", "UT"};
+    /**
+     * The shared prefixed offset regions, by prefix and quarter hour.
+     */
+    private static final ZoneRegion[][] PREFIXED_CACHE = new ZoneRegion[PREFIXES.length][145];
+    /**
+     * The shared regions with rules from the providers, replaced on refresh.
+     */
+    private static volatile RegionCache regionCache = new RegionCache(-1);
 
     /**
      * The time-zone ID, not null.
@@ -103,26 +117,51 @@ final class ZoneRegion extends ZoneId implements Serializable {
             throw new DateTimeException("Invalid ID for region-based ZoneId, invalid format: " + zoneId);
         }
         if (zoneId.equals("UTC") || zoneId.equals("GMT") || zoneId.equals("UT")) {
-            return new ZoneRegion(zoneId, ZoneOffset.UTC.getRules());
+            return ofPrefixedOffset(zoneId, ZoneOffset.UTC);
         }
         if (zoneId.startsWith("UTC+") || zoneId.startsWith("GMT+") ||
                 zoneId.startsWith("UTC-") || zoneId.startsWith("GMT-")) {
-            ZoneOffset offset = ZoneOffset.of(zoneId.substring(3));
-            if (offset.getTotalSeconds() == 0) {
-                return new ZoneRegion(zoneId.substring(0, 3), offset.getRules());
-            }
-            return new ZoneRegion(zoneId.substring(0, 3) + offset.getId(), offset.getRules());
+            return ofPrefixedOffset(zoneId.substring(0, 3), ZoneOffset.of(zoneId.substring(3)));
         }
         if (zoneId.startsWith("UT+") || zoneId.startsWith("UT-")) {
-            ZoneOffset offset = ZoneOffset.of(zoneId.substring(2));
-            if (offset.getTotalSeconds() == 0) {
-                return new ZoneRegion("UT", offset.getRules());
-            }
-            return new ZoneRegion("UT" + offset.getId(), offset.getRules());
+            return ofPrefixedOffset("UT", ZoneOffset.of(zoneId.substring(2)));
         }
         return ofId(zoneId, false);
     }
 
+    /**
+     * Obtains an instance of {@code ZoneRegion} combining a prefix and an offset.
+     * <p>
+     * Instances are shared when the offset is a whole number of quarter hours.
+     *
+     * @param prefix  the prefix, one of "UTC", "GMT" or "UT", not null
+     * @param offset  the offset, not null
+     * @return the zone ID, not null
+     */
+    static ZoneRegion ofPrefixedOffset(String prefix, ZoneOffset offset) {
+        int totalSeconds = offset.getTotalSeconds();
+        int prefixIndex = (prefix.equals("UTC") ? 0 : prefix.equals("GMT") ? 1 : 2);
+        if (totalSeconds % (15 * 60) != 0) {
+            return createPrefixedOffset(PREFIXES[prefixIndex], offset);
+        }
+        ZoneRegion[] cache = PREFIXED_CACHE[prefixIndex];
+        int index = totalSeconds / (15 * 60) + 72;
+        ZoneRegion region = cache[index];
+        if (region == null) {
+            // racy publication is safe as the fields are final
+            region = createPrefixedOffset(PREFIXES[prefixIndex], offset);
+            cache[index] = region;
+        }
+        return region;
+    }
+
+    private static ZoneRegion createPrefixedOffset(String prefix, ZoneOffset offset) {
+        if (offset.getTotalSeconds() == 0) {
+            return new ZoneRegion(prefix, offset.getRules());
+        }
+        return new ZoneRegion(prefix + offset.getId(), offset.getRules());
+    }
+
     /**
      * Obtains an instance of {@code ZoneId} from an identifier.
      *
@@ -134,6 +173,11 @@ final class ZoneRegion extends ZoneId implements Serializable {
      */
     static ZoneRegion ofId(String zoneId, boolean checkAvailable) {
         Jdk8Methods.requireNonNull(zoneId, "zoneId");
+        ConcurrentMap<String, ZoneRegion> cache = regionCache();
+        ZoneRegion cached = cache.get(zoneId);
+        if (cached != null) {
+            return cached;
+        }
         if (zoneId.length() < 2 || PATTERN.matcher(zoneId).matches() == false) {
             throw new DateTimeException("Invalid ID for region-based ZoneId, invalid format: " + zoneId);
         }
@@ -149,7 +193,30 @@ final class ZoneRegion extends ZoneId implements Serializable {
                 throw ex;
             }
         }
-        return new ZoneRegion(zoneId, rules);
+        if (rules == null) {
+            return new ZoneRegion(zoneId, rules);
+        }
+        ZoneRegion region = new ZoneRegion(zoneId, rules);
+        cached = cache.putIfAbsent(zoneId, region);
+        return (cached != null ? cached : region);
+    }
+
+    /**
+     * Gets the cache of shared regions, discarding it if the rules have been refreshed.
+     * <p>
+     * The refresh count is read before any rules are queried, thus a region created
+     * from rules obtained before a refresh is only ever added to a discarded cache.
+     *
+     * @return the cache of regions by ID, not null
+     */
+    private static ConcurrentMap<String, ZoneRegion> regionCache() {
+        int refreshCount = ZoneRulesProvider.getRefreshCount();
+        RegionCache current = regionCache;
+        if (current.refreshCount != refreshCount) {
+            current = new RegionCache(refreshCount);
+            regionCache = current;
+        }
+        return current.regions;
     }
 
     //-------------------------------------------------------------------------
@@ -206,4 +273,19 @@ final class ZoneRegion extends ZoneId implements Serializable {
         return ofLenient(id);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The shared regions valid for a single refresh count.
+     */
+    private static final class RegionCache {
+        /** The refresh count that the regions are valid for. */
+        private final int refreshCount;
+        /** The regions by ID. */
+        private final ConcurrentMap<String, ZoneRegion> regions = new ConcurrentHashMap<String, ZoneRegion>(512, 0.75f, 2);
+
+        private RegionCache(int refreshCount) {
+            this.refreshCount = refreshCount;
+        }
+    }
+
 }
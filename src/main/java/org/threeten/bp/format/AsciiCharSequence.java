@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A read-only view of ASCII bytes as a sequence of characters.
+ * <p>
+ * This allows bytes to be parsed without first decoding them to a {@code String}.
+ * Each byte is converted to a character only when it is read.
+ * Bytes outside the ASCII range are read as U+FFFD, the replacement character,
+ * which never matches the text expected by a parser.
+ * <p>
+ * The bytes are not copied, thus changes to the underlying array or buffer
+ * are visible through the view.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * It is intended for use within a single parse.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+    /**
+     * The character read for bytes outside the ASCII range.
+     */
+    private static final char REPLACEMENT = '\uFFFD';
+
+    /**
+     * The byte array, null if reading from a buffer.
+     */
+    private final byte[] array;
+    /**
+     * The buffer, null if reading from an array.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The index of the first byte in the array or buffer.
+     */
+    private final int offset;
+    /**
+     * The number of bytes in the view.
+     */
+    private final int length;
+
+    /**
+     * Creates a view of part of a byte array.
+     *
+     * @param array  the array, not null
+     * @param offset  the index of the first byte, validated
+     * @param length  the number of bytes, validated
+     */
+    AsciiCharSequence(byte[] array, int offset, int length) {
+        this(array, null, offset, length);
+    }
+
+    /**
+     * Creates a view of the bytes between the position and limit of a buffer.
+     * <p>
+     * The position of the buffer is not changed, now or when the view is read.
+     *
+     * @param buffer  the buffer, not null
+     */
+    AsciiCharSequence(ByteBuffer buffer) {
+        this(buffer.hasArray() ? buffer.array() : null,
+                buffer.hasArray() ? null : buffer,
+                buffer.hasArray() ? buffer.arrayOffset() + buffer.position() : buffer.position(),
+                buffer.remaining());
+    }
+
+    private AsciiCharSequence(byte[] array, ByteBuffer buffer, int offset, int length) {
+        this.array = array;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+        }
+        byte b = (array != null ? array[offset + index] : buffer.get(offset + index));
+        return (b >= 0 ? (char) b : REPLACEMENT);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Start: " + start + ", end: " + end + ", length: " + length);
+        }
+        return new AsciiCharSequence(array, buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charAt(i);
+        }
+        return new String(chars);
+    }
+
+}
@@ -34,7 +34,9 @@ package org.threeten.bp.format;
 import static org.threeten.bp.temporal.ChronoField.AMPM_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.CLOCK_HOUR_OF_AMPM;
 import static org.threeten.bp.temporal.ChronoField.CLOCK_HOUR_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+import static org.threeten.bp.temporal.ChronoField.ERA;
 import static org.threeten.bp.temporal.ChronoField.HOUR_OF_AMPM;
 import static org.threeten.bp.temporal.ChronoField.HOUR_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.INSTANT_SECONDS;
@@ -44,23 +46,26 @@ import static org.threeten.bp.temporal.ChronoField.MILLI_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.MILLI_OF_SECOND;
 import static org.threeten.bp.temporal.ChronoField.MINUTE_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.MINUTE_OF_HOUR;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
 import static org.threeten.bp.temporal.ChronoField.NANO_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
 import static org.threeten.bp.temporal.ChronoField.OFFSET_SECONDS;
+import static org.threeten.bp.temporal.ChronoField.PROLEPTIC_MONTH;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR_OF_ERA;
 
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalTime;
+import org.threeten.bp.Month;
 import org.threeten.bp.Period;
+import org.threeten.bp.Year;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.chrono.ChronoLocalDate;
@@ -96,10 +101,19 @@ final class DateTimeBuilder
         extends DefaultInterfaceTemporalAccessor
         implements TemporalAccessor, Cloneable {
 
+    /**
+     * The chrono fields, by ordinal.
+     */
+    private static final ChronoField[] CHRONO_FIELDS = ChronoField.values();
+    /**
+     * The shared exception thrown for failures when quiet.
+     */
+    private static final DateTimeException QUIET_FAILURE = new QuietFailure();
+
     /**
      * The map of other fields.
      */
-    final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+    final FieldValueMap fieldValues = new FieldValueMap();
     /**
      * The chronology.
      */
@@ -124,6 +138,12 @@ final class DateTimeBuilder
      * The excess days.
      */
     Period excessDays;
+    /**
+     * Whether to report resolve failures using a shared exception, avoiding the cost
+     * of building a message and stack trace when the caller only needs to know the
+     * resolve failed.
+     */
+    boolean quiet;
 
     //-----------------------------------------------------------------------
     /**
@@ -145,10 +165,6 @@ final class DateTimeBuilder
     }
 
     //-----------------------------------------------------------------------
-    private Long getFieldValue0(TemporalField field) {
-        return fieldValues.get(field);
-    }
-
     /**
      * Adds a field-value pair to the builder.
      * <p>
@@ -165,15 +181,14 @@ final class DateTimeBuilder
      */
     DateTimeBuilder addFieldValue(TemporalField field, long value) {
         Jdk8Methods.requireNonNull(field, "field");
-        Long old = getFieldValue0(field);  // check first for better error message
-        if (old != null && old.longValue() != value) {
-            throw new DateTimeException("Conflict found: " + field + " " + old + " differs from " + field + " " + value + ": " + this);
+        if (fieldValues.contains(field)) {  // check first for better error message
+            long old = fieldValues.getLong(field);
+            if (old != value) {
+                throwIfQuiet();
+                throw new DateTimeException("Conflict found: " + field + " " + old + " differs from " + field + " " + value + ": " + this);
+            }
         }
-        return putFieldValue0(field, value);
-    }
-
-    private DateTimeBuilder putFieldValue0(TemporalField field, long value) {
-        fieldValues.put(field, value);
+        fieldValues.putLong(field, value);
         return this;
     }
 
@@ -199,7 +214,7 @@ final class DateTimeBuilder
      */
     public DateTimeBuilder resolve(ResolverStyle resolverStyle, Set<TemporalField> resolverFields) {
         if (resolverFields != null) {
-            fieldValues.keySet().retainAll(resolverFields);
+            fieldValues.retainFields(resolverFields);
         }
         // handle standard fields
         mergeInstantFields();
@@ -225,8 +240,8 @@ final class DateTimeBuilder
         int changes = 0;
         outer:
         while (changes < 100) {
-            for (Map.Entry<TemporalField, Long> entry : fieldValues.entrySet()) {
-                TemporalField targetField = entry.getKey();
+            // chrono fields are resolved by this class, so only other fields are queried
+            for (TemporalField targetField : fieldValues.otherFields()) {
                 TemporalAccessor resolvedObject = targetField.resolve(fieldValues, this, resolverStyle);
                 if (resolvedObject != null) {
                     if (resolvedObject instanceof ChronoZonedDateTime) {
@@ -256,7 +271,7 @@ final class DateTimeBuilder
                         continue outer;  // have to restart to avoid concurrent modification
                     }
                     throw new DateTimeException("Unknown type: " + resolvedObject.getClass().getName());
-                } else if (fieldValues.containsKey(targetField) == false) {
+                } else if (fieldValues.contains(targetField) == false) {
                     changes++;
                     continue outer;  // have to restart to avoid concurrent modification
                 }
@@ -274,51 +289,99 @@ final class DateTimeBuilder
             throw new DateTimeException("ChronoLocalDate must use the effective parsed chronology: " + chrono);
         }
         long epochDay = date.toEpochDay();
-        Long old = fieldValues.put(ChronoField.EPOCH_DAY, epochDay);
-        if (old != null && old.longValue() != epochDay) {
-            throw new DateTimeException("Conflict found: " + LocalDate.ofEpochDay(old) +
-                    " differs from " + LocalDate.ofEpochDay(epochDay) +
-                    " while resolving  " + targetField);
+        if (fieldValues.contains(EPOCH_DAY)) {
+            long old = fieldValues.getLong(EPOCH_DAY);
+            if (old != epochDay) {
+                throwIfQuiet();
+                throw new DateTimeException("Conflict found: " + LocalDate.ofEpochDay(old) +
+                        " differs from " + LocalDate.ofEpochDay(epochDay) +
+                        " while resolving  " + targetField);
+            }
         }
+        fieldValues.putLong(EPOCH_DAY, epochDay);
     }
 
     private void resolveMakeChanges(TemporalField targetField, LocalTime time) {
         long nanOfDay = time.toNanoOfDay();
-        Long old = fieldValues.put(ChronoField.NANO_OF_DAY, nanOfDay);
-        if (old != null && old.longValue() != nanOfDay) {
-            throw new DateTimeException("Conflict found: " + LocalTime.ofNanoOfDay(old) +
-                    " differs from " + time +
-                    " while resolving  " + targetField);
+        if (fieldValues.contains(NANO_OF_DAY)) {
+            long old = fieldValues.getLong(NANO_OF_DAY);
+            if (old != nanOfDay) {
+                throwIfQuiet();
+                throw new DateTimeException("Conflict found: " + LocalTime.ofNanoOfDay(old) +
+                        " differs from " + time +
+                        " while resolving  " + targetField);
+            }
         }
+        fieldValues.putLong(NANO_OF_DAY, nanOfDay);
     }
 
     private void mergeDate(ResolverStyle resolverStyle) {
         if (chrono instanceof IsoChronology) {
-            checkDate(IsoChronology.INSTANCE.resolveDate(fieldValues, resolverStyle));
+            if (fieldValues.contains(YEAR) && fieldValues.contains(MONTH_OF_YEAR) && fieldValues.contains(DAY_OF_MONTH) &&
+                    fieldValues.contains(EPOCH_DAY) == false && fieldValues.contains(PROLEPTIC_MONTH) == false &&
+                    fieldValues.contains(YEAR_OF_ERA) == false && fieldValues.contains(ERA) == false) {
+                checkDate(resolveIsoYearMonthDay(resolverStyle));
+            } else {
+                checkDate(IsoChronology.INSTANCE.resolveDate(fieldValues, resolverStyle));
+            }
         } else {
-            if (fieldValues.containsKey(EPOCH_DAY)) {
-                checkDate(LocalDate.ofEpochDay(fieldValues.remove(EPOCH_DAY)));
+            if (fieldValues.contains(EPOCH_DAY)) {
+                checkDate(LocalDate.ofEpochDay(fieldValues.removeLong(EPOCH_DAY)));
                 return;
             }
         }
     }
 
+    /**
+     * Resolves the common case of year, month and day in the ISO chronology.
+     * <p>
+     * This matches {@link IsoChronology#resolveDate} when no other fields
+     * take precedence, avoiding boxing the values.
+     *
+     * @param resolverStyle  the resolver style, not null
+     * @return the resolved date, not null
+     */
+    private LocalDate resolveIsoYearMonthDay(ResolverStyle resolverStyle) {
+        int y = checkValidIntValue(YEAR, fieldValues.removeLong(YEAR));
+        int moy = Jdk8Methods.safeToInt(fieldValues.removeLong(MONTH_OF_YEAR));
+        int dom = Jdk8Methods.safeToInt(fieldValues.removeLong(DAY_OF_MONTH));
+        if (resolverStyle == ResolverStyle.LENIENT) {
+            long months = Jdk8Methods.safeSubtract(moy, 1);
+            long days = Jdk8Methods.safeSubtract(dom, 1);
+            return LocalDate.of(y, 1, 1).plusMonths(months).plusDays(days);
+        } else if (resolverStyle == ResolverStyle.SMART) {
+            checkValidValue(DAY_OF_MONTH, dom);
+            if (moy == 4 || moy == 6 || moy == 9 || moy == 11) {
+                dom = Math.min(dom, 30);
+            } else if (moy == 2) {
+                dom = Math.min(dom, Month.FEBRUARY.length(Year.isLeap(y)));
+            }
+        }
+        if (quiet) {
+            checkValidValue(MONTH_OF_YEAR, moy);
+            checkValidValue(DAY_OF_MONTH, dom);
+            if (dom > Month.of(moy).length(Year.isLeap(y))) {
+                throw QUIET_FAILURE;
+            }
+        }
+        return LocalDate.of(y, moy, dom);
+    }
+
     private void checkDate(LocalDate date) {
         if (date != null) {
             addObject(date);
-            for (TemporalField field : fieldValues.keySet()) {
-                if (field instanceof ChronoField) {
-                    if (field.isDateBased()) {
-                        long val1;
-                        try {
-                            val1 = date.getLong(field);
-                        } catch (DateTimeException ex) {
-                            continue;
-                        }
-                        Long val2 = fieldValues.get(field);
-                        if (val1 != val2) {
-                            throw new DateTimeException("Conflict found: Field " + field + " " + val1 + " differs from " + field + " " + val2 + " derived from " + date);
-                        }
+            for (ChronoField field : CHRONO_FIELDS) {
+                if (fieldValues.contains(field) && field.isDateBased()) {
+                    long val1;
+                    try {
+                        val1 = date.getLong(field);
+                    } catch (DateTimeException ex) {
+                        continue;
+                    }
+                    long val2 = fieldValues.getLong(field);
+                    if (val1 != val2) {
+                        throwIfQuiet();
+                        throw new DateTimeException("Conflict found: Field " + field + " " + val1 + " differs from " + field + " " + val2 + " derived from " + date);
                     }
                 }
             }
@@ -326,39 +389,39 @@ final class DateTimeBuilder
     }
 
     private void mergeTime(ResolverStyle resolverStyle) {
-        if (fieldValues.containsKey(CLOCK_HOUR_OF_DAY)) {
-            long ch = fieldValues.remove(CLOCK_HOUR_OF_DAY);
+        if (fieldValues.contains(CLOCK_HOUR_OF_DAY)) {
+            long ch = fieldValues.removeLong(CLOCK_HOUR_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 if (resolverStyle == ResolverStyle.SMART && ch == 0) {
                     // ok
                 } else {
-                    CLOCK_HOUR_OF_DAY.checkValidValue(ch);
+                    checkValidValue(CLOCK_HOUR_OF_DAY, ch);
                 }
             }
             addFieldValue(HOUR_OF_DAY, ch == 24 ? 0 : ch);
         }
-        if (fieldValues.containsKey(CLOCK_HOUR_OF_AMPM)) {
-            long ch = fieldValues.remove(CLOCK_HOUR_OF_AMPM);
+        if (fieldValues.contains(CLOCK_HOUR_OF_AMPM)) {
+            long ch = fieldValues.removeLong(CLOCK_HOUR_OF_AMPM);
             if (resolverStyle != ResolverStyle.LENIENT) {
                 if (resolverStyle == ResolverStyle.SMART && ch == 0) {
                     // ok
                 } else {
-                    CLOCK_HOUR_OF_AMPM.checkValidValue(ch);
+                    checkValidValue(CLOCK_HOUR_OF_AMPM, ch);
                 }
             }
             addFieldValue(HOUR_OF_AMPM, ch == 12 ? 0 : ch);
         }
         if (resolverStyle != ResolverStyle.LENIENT) {
-            if (fieldValues.containsKey(AMPM_OF_DAY)) {
-                AMPM_OF_DAY.checkValidValue(fieldValues.get(AMPM_OF_DAY));
+            if (fieldValues.contains(AMPM_OF_DAY)) {
+                checkValidValue(AMPM_OF_DAY, fieldValues.getLong(AMPM_OF_DAY));
             }
-            if (fieldValues.containsKey(HOUR_OF_AMPM)) {
-                HOUR_OF_AMPM.checkValidValue(fieldValues.get(HOUR_OF_AMPM));
+            if (fieldValues.contains(HOUR_OF_AMPM)) {
+                checkValidValue(HOUR_OF_AMPM, fieldValues.getLong(HOUR_OF_AMPM));
             }
         }
-        if (fieldValues.containsKey(AMPM_OF_DAY) && fieldValues.containsKey(HOUR_OF_AMPM)) {
-            long ap = fieldValues.remove(AMPM_OF_DAY);
-            long hap = fieldValues.remove(HOUR_OF_AMPM);
+        if (fieldValues.contains(AMPM_OF_DAY) && fieldValues.contains(HOUR_OF_AMPM)) {
+            long ap = fieldValues.removeLong(AMPM_OF_DAY);
+            long hap = fieldValues.removeLong(HOUR_OF_AMPM);
             addFieldValue(HOUR_OF_DAY, ap * 12 + hap);
         }
 //        if (timeFields.containsKey(HOUR_OF_DAY) && timeFields.containsKey(MINUTE_OF_HOUR)) {
@@ -371,43 +434,43 @@ final class DateTimeBuilder
 //            long som = timeFields.remove(SECOND_OF_MINUTE);
 //            addFieldValue(SECOND_OF_DAY, mod * 60 + som);
 //        }
-        if (fieldValues.containsKey(NANO_OF_DAY)) {
-            long nod = fieldValues.remove(NANO_OF_DAY);
+        if (fieldValues.contains(NANO_OF_DAY)) {
+            long nod = fieldValues.removeLong(NANO_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
-                NANO_OF_DAY.checkValidValue(nod);
+                checkValidValue(NANO_OF_DAY, nod);
             }
             addFieldValue(SECOND_OF_DAY, nod / 1000000000L);
             addFieldValue(NANO_OF_SECOND, nod % 1000000000L);
         }
-        if (fieldValues.containsKey(MICRO_OF_DAY)) {
-            long cod = fieldValues.remove(MICRO_OF_DAY);
+        if (fieldValues.contains(MICRO_OF_DAY)) {
+            long cod = fieldValues.removeLong(MICRO_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
-                MICRO_OF_DAY.checkValidValue(cod);
+                checkValidValue(MICRO_OF_DAY, cod);
             }
             addFieldValue(SECOND_OF_DAY, cod / 1000000L);
             addFieldValue(MICRO_OF_SECOND, cod % 1000000L);
         }
-        if (fieldValues.containsKey(MILLI_OF_DAY)) {
-            long lod = fieldValues.remove(MILLI_OF_DAY);
+        if (fieldValues.contains(MILLI_OF_DAY)) {
+            long lod = fieldValues.removeLong(MILLI_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
-                MILLI_OF_DAY.checkValidValue(lod);
+                checkValidValue(MILLI_OF_DAY, lod);
             }
             addFieldValue(SECOND_OF_DAY, lod / 1000);
             addFieldValue(MILLI_OF_SECOND, lod % 1000);
         }
-        if (fieldValues.containsKey(SECOND_OF_DAY)) {
-            long sod = fieldValues.remove(SECOND_OF_DAY);
+        if (fieldValues.contains(SECOND_OF_DAY)) {
+            long sod = fieldValues.removeLong(SECOND_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
-                SECOND_OF_DAY.checkValidValue(sod);
+                checkValidValue(SECOND_OF_DAY, sod);
             }
             addFieldValue(HOUR_OF_DAY, sod / 3600);
             addFieldValue(MINUTE_OF_HOUR, (sod / 60) % 60);
             addFieldValue(SECOND_OF_MINUTE, sod % 60);
         }
-        if (fieldValues.containsKey(MINUTE_OF_DAY)) {
-            long mod = fieldValues.remove(MINUTE_OF_DAY);
+        if (fieldValues.contains(MINUTE_OF_DAY)) {
+            long mod = fieldValues.removeLong(MINUTE_OF_DAY);
             if (resolverStyle != ResolverStyle.LENIENT) {
-                MINUTE_OF_DAY.checkValidValue(mod);
+                checkValidValue(MINUTE_OF_DAY, mod);
             }
             addFieldValue(HOUR_OF_DAY, mod / 60);
             addFieldValue(MINUTE_OF_HOUR, mod % 60);
@@ -419,130 +482,122 @@ final class DateTimeBuilder
 //            addFieldValue(SECOND_OF_MINUTE, sod % 60);
 //            addFieldValue(NANO_OF_SECOND, nod % 1000000000L);
         if (resolverStyle != ResolverStyle.LENIENT) {
-            if (fieldValues.containsKey(MILLI_OF_SECOND)) {
-                MILLI_OF_SECOND.checkValidValue(fieldValues.get(MILLI_OF_SECOND));
+            if (fieldValues.contains(MILLI_OF_SECOND)) {
+                checkValidValue(MILLI_OF_SECOND, fieldValues.getLong(MILLI_OF_SECOND));
             }
-            if (fieldValues.containsKey(MICRO_OF_SECOND)) {
-                MICRO_OF_SECOND.checkValidValue(fieldValues.get(MICRO_OF_SECOND));
+            if (fieldValues.contains(MICRO_OF_SECOND)) {
+                checkValidValue(MICRO_OF_SECOND, fieldValues.getLong(MICRO_OF_SECOND));
             }
         }
-        if (fieldValues.containsKey(MILLI_OF_SECOND) && fieldValues.containsKey(MICRO_OF_SECOND)) {
-            long los = fieldValues.remove(MILLI_OF_SECOND);
-            long cos = fieldValues.get(MICRO_OF_SECOND);
+        if (fieldValues.contains(MILLI_OF_SECOND) && fieldValues.contains(MICRO_OF_SECOND)) {
+            long los = fieldValues.removeLong(MILLI_OF_SECOND);
+            long cos = fieldValues.getLong(MICRO_OF_SECOND);
             addFieldValue(MICRO_OF_SECOND, los * 1000 + (cos % 1000));
         }
-        if (fieldValues.containsKey(MICRO_OF_SECOND) && fieldValues.containsKey(NANO_OF_SECOND)) {
-            long nos = fieldValues.get(NANO_OF_SECOND);
+        if (fieldValues.contains(MICRO_OF_SECOND) && fieldValues.contains(NANO_OF_SECOND)) {
+            long nos = fieldValues.getLong(NANO_OF_SECOND);
             addFieldValue(MICRO_OF_SECOND, nos / 1000);
-            fieldValues.remove(MICRO_OF_SECOND);
+            fieldValues.removeLong(MICRO_OF_SECOND);
         }
-        if (fieldValues.containsKey(MILLI_OF_SECOND) && fieldValues.containsKey(NANO_OF_SECOND)) {
-            long nos = fieldValues.get(NANO_OF_SECOND);
+        if (fieldValues.contains(MILLI_OF_SECOND) && fieldValues.contains(NANO_OF_SECOND)) {
+            long nos = fieldValues.getLong(NANO_OF_SECOND);
             addFieldValue(MILLI_OF_SECOND, nos / 1000000);
-            fieldValues.remove(MILLI_OF_SECOND);
+            fieldValues.removeLong(MILLI_OF_SECOND);
         }
-        if (fieldValues.containsKey(MICRO_OF_SECOND)) {
-            long cos = fieldValues.remove(MICRO_OF_SECOND);
+        if (fieldValues.contains(MICRO_OF_SECOND)) {
+            long cos = fieldValues.removeLong(MICRO_OF_SECOND);
             addFieldValue(NANO_OF_SECOND, cos * 1000);
-        } else if (fieldValues.containsKey(MILLI_OF_SECOND)) {
-            long los = fieldValues.remove(MILLI_OF_SECOND);
+        } else if (fieldValues.contains(MILLI_OF_SECOND)) {
+            long los = fieldValues.removeLong(MILLI_OF_SECOND);
             addFieldValue(NANO_OF_SECOND, los * 1000000);
         }
     }
 
     private void resolveTimeInferZeroes(ResolverStyle resolverStyle) {
-        Long hod = fieldValues.get(HOUR_OF_DAY);
-        Long moh = fieldValues.get(MINUTE_OF_HOUR);
-        Long som = fieldValues.get(SECOND_OF_MINUTE);
-        Long nos = fieldValues.get(NANO_OF_SECOND);
-        if (hod == null) {
+        if (fieldValues.contains(HOUR_OF_DAY) == false) {
             return;
         }
-        if (moh == null && (som != null || nos != null)) {
+        boolean hasMoh = fieldValues.contains(MINUTE_OF_HOUR);
+        boolean hasSom = fieldValues.contains(SECOND_OF_MINUTE);
+        boolean hasNos = fieldValues.contains(NANO_OF_SECOND);
+        if (hasMoh == false && (hasSom || hasNos)) {
             return;
         }
-        if (moh != null && som == null && nos != null) {
+        if (hasMoh && hasSom == false && hasNos) {
             return;
         }
+        long hod = fieldValues.getLong(HOUR_OF_DAY);
+        long moh = (hasMoh ? fieldValues.getLong(MINUTE_OF_HOUR) : 0);
+        long som = (hasSom ? fieldValues.getLong(SECOND_OF_MINUTE) : 0);
+        long nos = (hasNos ? fieldValues.getLong(NANO_OF_SECOND) : 0);
         if (resolverStyle != ResolverStyle.LENIENT) {
-            if (hod != null) {
-                if (resolverStyle == ResolverStyle.SMART &&
-                                hod.longValue() == 24 && 
-                                (moh == null || moh.longValue() == 0) && 
-                                (som == null || som.longValue() == 0) && 
-                                (nos == null || nos.longValue() == 0)) {
-                    hod = 0L;
-                    excessDays = Period.ofDays(1);
-                }
-                int hodVal = HOUR_OF_DAY.checkValidIntValue(hod);
-                if (moh != null) {
-                    int mohVal = MINUTE_OF_HOUR.checkValidIntValue(moh);
-                    if (som != null) {
-                        int somVal = SECOND_OF_MINUTE.checkValidIntValue(som);
-                        if (nos != null) {
-                            int nosVal = NANO_OF_SECOND.checkValidIntValue(nos);
-                            addObject(LocalTime.of(hodVal, mohVal, somVal, nosVal));
-                        } else {
-                            addObject(LocalTime.of(hodVal, mohVal, somVal));
-                        }
+            if (resolverStyle == ResolverStyle.SMART &&
+                            hod == 24 && moh == 0 && som == 0 && nos == 0) {
+                hod = 0;
+                excessDays = Period.ofDays(1);
+            }
+            int hodVal = checkValidIntValue(HOUR_OF_DAY, hod);
+            if (hasMoh) {
+                int mohVal = checkValidIntValue(MINUTE_OF_HOUR, moh);
+                if (hasSom) {
+                    int somVal = checkValidIntValue(SECOND_OF_MINUTE, som);
+                    if (hasNos) {
+                        int nosVal = checkValidIntValue(NANO_OF_SECOND, nos);
+                        addObject(LocalTime.of(hodVal, mohVal, somVal, nosVal));
                     } else {
-                        if (nos == null) {
-                            addObject(LocalTime.of(hodVal, mohVal));
-                        }
+                        addObject(LocalTime.of(hodVal, mohVal, somVal));
                     }
                 } else {
-                    if (som == null && nos == null) {
-                        addObject(LocalTime.of(hodVal, 0));
+                    if (hasNos == false) {
+                        addObject(LocalTime.of(hodVal, mohVal));
                     }
                 }
+            } else {
+                if (hasSom == false && hasNos == false) {
+                    addObject(LocalTime.of(hodVal, 0));
+                }
             }
         } else {
-            if (hod != null) {
-                long hodVal = hod;
-                if (moh != null) {
-                    if (som != null) {
-                        if (nos == null) {
-                            nos = 0L;
-                        }
-                        long totalNanos = Jdk8Methods.safeMultiply(hodVal, 3600000000000L);
-                        totalNanos = Jdk8Methods.safeAdd(totalNanos, Jdk8Methods.safeMultiply(moh, 60000000000L));
-                        totalNanos = Jdk8Methods.safeAdd(totalNanos, Jdk8Methods.safeMultiply(som, 1000000000L));
-                        totalNanos = Jdk8Methods.safeAdd(totalNanos, nos);
-                        int excessDays = (int) Jdk8Methods.floorDiv(totalNanos, 86400000000000L);  // safe int cast
-                        long nod = Jdk8Methods.floorMod(totalNanos, 86400000000000L);
-                        addObject(LocalTime.ofNanoOfDay(nod));
-                        this.excessDays = Period.ofDays(excessDays);
-                    } else {
-                        long totalSecs = Jdk8Methods.safeMultiply(hodVal, 3600L);
-                        totalSecs = Jdk8Methods.safeAdd(totalSecs, Jdk8Methods.safeMultiply(moh, 60L));
-                        int excessDays = (int) Jdk8Methods.floorDiv(totalSecs, 86400L);  // safe int cast
-                        long sod = Jdk8Methods.floorMod(totalSecs, 86400L);
-                        addObject(LocalTime.ofSecondOfDay(sod));
-                        this.excessDays = Period.ofDays(excessDays);
-                    }
+            long hodVal = hod;
+            if (hasMoh) {
+                if (hasSom) {
+                    long totalNanos = Jdk8Methods.safeMultiply(hodVal, 3600000000000L);
+                    totalNanos = Jdk8Methods.safeAdd(totalNanos, Jdk8Methods.safeMultiply(moh, 60000000000L));
+                    totalNanos = Jdk8Methods.safeAdd(totalNanos, Jdk8Methods.safeMultiply(som, 1000000000L));
+                    totalNanos = Jdk8Methods.safeAdd(totalNanos, nos);
+                    int excessDays = (int) Jdk8Methods.floorDiv(totalNanos, 86400000000000L);  // safe int cast
+                    long nod = Jdk8Methods.floorMod(totalNanos, 86400000000000L);
+                    addObject(LocalTime.ofNanoOfDay(nod));
+                    this.excessDays = Period.ofDays(excessDays);
                 } else {
-                    int excessDays = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(hodVal, 24L));
-                    hodVal = Jdk8Methods.floorMod(hodVal, 24);
-                    addObject(LocalTime.of((int) hodVal, 0));
+                    long totalSecs = Jdk8Methods.safeMultiply(hodVal, 3600L);
+                    totalSecs = Jdk8Methods.safeAdd(totalSecs, Jdk8Methods.safeMultiply(moh, 60L));
+                    int excessDays = (int) Jdk8Methods.floorDiv(totalSecs, 86400L);  // safe int cast
+                    long sod = Jdk8Methods.floorMod(totalSecs, 86400L);
+                    addObject(LocalTime.ofSecondOfDay(sod));
                     this.excessDays = Period.ofDays(excessDays);
                 }
+            } else {
+                int excessDays = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(hodVal, 24L));
+                hodVal = Jdk8Methods.floorMod(hodVal, 24);
+                addObject(LocalTime.of((int) hodVal, 0));
+                this.excessDays = Period.ofDays(excessDays);
             }
         }
-        fieldValues.remove(HOUR_OF_DAY);
-        fieldValues.remove(MINUTE_OF_HOUR);
-        fieldValues.remove(SECOND_OF_MINUTE);
-        fieldValues.remove(NANO_OF_SECOND);
+        fieldValues.removeLong(HOUR_OF_DAY);
+        fieldValues.removeLong(MINUTE_OF_HOUR);
+        fieldValues.removeLong(SECOND_OF_MINUTE);
+        fieldValues.removeLong(NANO_OF_SECOND);
     }
 
     //-----------------------------------------------------------------------
     private void mergeInstantFields() {
-        if (fieldValues.containsKey(INSTANT_SECONDS)) {
+        if (fieldValues.contains(INSTANT_SECONDS)) {
             if (zone != null) {
                 mergeInstantFields0(zone);
             } else {
-                Long offsetSecs = fieldValues.get(OFFSET_SECONDS);
-                if (offsetSecs != null) {
-                    ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSecs.intValue());
+                if (fieldValues.contains(OFFSET_SECONDS)) {
+                    ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) fieldValues.getLong(OFFSET_SECONDS));
                     mergeInstantFields0(offset);
                 }
             }
@@ -550,7 +605,7 @@ final class DateTimeBuilder
     }
 
     private void mergeInstantFields0(ZoneId selectedZone) {
-        Instant instant = Instant.ofEpochSecond(fieldValues.remove(INSTANT_SECONDS));
+        Instant instant = Instant.ofEpochSecond(fieldValues.removeLong(INSTANT_SECONDS));
         ChronoZonedDateTime<?> zdt = chrono.zonedDateTime(instant, selectedZone);
         if (date == null) {
             addObject(zdt.toLocalDate());
@@ -562,7 +617,7 @@ final class DateTimeBuilder
 
     //-----------------------------------------------------------------------
     private void crossCheck() {
-        if (fieldValues.size() > 0) {
+        if (fieldValues.isEmpty() == false) {
             if (date != null && time != null) {
                 crossCheck(date.atTime(time));
             } else if (date != null) {
@@ -574,58 +629,89 @@ final class DateTimeBuilder
     }
 
     private void crossCheck(TemporalAccessor temporal) {
-        Iterator<Entry<TemporalField, Long>> it = fieldValues.entrySet().iterator();
+        for (ChronoField field : CHRONO_FIELDS) {
+            if (fieldValues.contains(field) && crossCheck(temporal, field, fieldValues.getLong(field))) {
+                fieldValues.removeLong(field);
+            }
+        }
+        Iterator<TemporalField> it = fieldValues.otherFields().iterator();
         while (it.hasNext()) {
-            Entry<TemporalField, Long> entry = it.next();
-            TemporalField field = entry.getKey();
-            long value = entry.getValue();
-            if (temporal.isSupported(field)) {
-                long temporalValue;
-                try {
-                    temporalValue = temporal.getLong(field);
-                } catch (RuntimeException ex) {
-                    continue;
-                }
-                if (temporalValue != value) {
-                    throw new DateTimeException("Cross check failed: " +
-                            field + " " + temporalValue + " vs " + field + " " + value);
-                }
+            TemporalField field = it.next();
+            if (crossCheck(temporal, field, fieldValues.getLong(field))) {
                 it.remove();
             }
         }
     }
 
+    private boolean crossCheck(TemporalAccessor temporal, TemporalField field, long value) {
+        if (temporal.isSupported(field)) {
+            long temporalValue;
+            try {
+                temporalValue = temporal.getLong(field);
+            } catch (RuntimeException ex) {
+                return false;
+            }
+            if (temporalValue != value) {
+                throwIfQuiet();
+                throw new DateTimeException("Cross check failed: " +
+                        field + " " + temporalValue + " vs " + field + " " + value);
+            }
+            return true;
+        }
+        return false;
+    }
+
     private void resolveFractional() {
         if (time == null &&
-                (fieldValues.containsKey(INSTANT_SECONDS) ||
-                    fieldValues.containsKey(SECOND_OF_DAY) ||
-                    fieldValues.containsKey(SECOND_OF_MINUTE))) {
-            if (fieldValues.containsKey(NANO_OF_SECOND)) {
-                long nos = fieldValues.get(NANO_OF_SECOND);
-                fieldValues.put(MICRO_OF_SECOND, nos / 1000);
-                fieldValues.put(MILLI_OF_SECOND, nos / 1000000);
+                (fieldValues.contains(INSTANT_SECONDS) ||
+                    fieldValues.contains(SECOND_OF_DAY) ||
+                    fieldValues.contains(SECOND_OF_MINUTE))) {
+            if (fieldValues.contains(NANO_OF_SECOND)) {
+                long nos = fieldValues.getLong(NANO_OF_SECOND);
+                fieldValues.putLong(MICRO_OF_SECOND, nos / 1000);
+                fieldValues.putLong(MILLI_OF_SECOND, nos / 1000000);
             } else {
-                fieldValues.put(NANO_OF_SECOND, 0L);
-                fieldValues.put(MICRO_OF_SECOND, 0L);
-                fieldValues.put(MILLI_OF_SECOND, 0L);
+                fieldValues.putLong(NANO_OF_SECOND, 0L);
+                fieldValues.putLong(MICRO_OF_SECOND, 0L);
+                fieldValues.putLong(MILLI_OF_SECOND, 0L);
             }
         }
     }
 
     private void resolveInstant() {
         if (date != null && time != null) {
-            Long offsetSecs = fieldValues.get(OFFSET_SECONDS);
-            if (offsetSecs != null) {
-                ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSecs.intValue());
+            if (fieldValues.contains(OFFSET_SECONDS)) {
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) fieldValues.getLong(OFFSET_SECONDS));
                 long instant = date.atTime(time).atZone(offset).getLong(ChronoField.INSTANT_SECONDS);
-                fieldValues.put(INSTANT_SECONDS, instant);
+                fieldValues.putLong(INSTANT_SECONDS, instant);
             }  else if (zone != null) {
                 long instant = date.atTime(time).atZone(zone).getLong(ChronoField.INSTANT_SECONDS);
-                fieldValues.put(INSTANT_SECONDS, instant);
+                fieldValues.putLong(INSTANT_SECONDS, instant);
             }
         }
     }
 
+    //-----------------------------------------------------------------------
+    private long checkValidValue(ChronoField field, long value) {
+        if (quiet && field.range().isValidValue(value) == false) {
+            throw QUIET_FAILURE;
+        }
+        return field.checkValidValue(value);
+    }
+
+    private int checkValidIntValue(ChronoField field, long value) {
+        if (quiet && field.range().isValidIntValue(value) == false) {
+            throw QUIET_FAILURE;
+        }
+        return field.checkValidIntValue(value);
+    }
+
+    private void throwIfQuiet() {
+        if (quiet) {
+            throw QUIET_FAILURE;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Builds the specified type from the values in this builder.
@@ -648,7 +734,7 @@ final class DateTimeBuilder
         if (field == null) {
             return false;
         }
-        return fieldValues.containsKey(field) ||
+        return fieldValues.contains(field) ||
                 (date != null && date.isSupported(field)) ||
                 (time != null && time.isSupported(field));
     }
@@ -656,17 +742,16 @@ final class DateTimeBuilder
     @Override
     public long getLong(TemporalField field) {
         Jdk8Methods.requireNonNull(field, "field");
-        Long value = getFieldValue0(field);
-        if (value == null) {
-            if (date != null && date.isSupported(field)) {
-                return date.getLong(field);
-            }
-            if (time != null && time.isSupported(field)) {
-                return time.getLong(field);
-            }
-            throw new DateTimeException("Field not found: " + field);
+        if (fieldValues.contains(field)) {
+            return fieldValues.getLong(field);
+        }
+        if (date != null && date.isSupported(field)) {
+            return date.getLong(field);
+        }
+        if (time != null && time.isSupported(field)) {
+            return time.getLong(field);
         }
-        return value;
+        throw new DateTimeException("Field not found: " + field);
     }
 
     @SuppressWarnings("unchecked")
@@ -695,7 +780,7 @@ final class DateTimeBuilder
     public String toString() {
         StringBuilder buf = new StringBuilder(128);
         buf.append("DateTimeBuilder[");
-        if (fieldValues.size() > 0) {
+        if (fieldValues.isEmpty() == false) {
             buf.append("fields=").append(fieldValues);
         }
         buf.append(", ").append(chrono);
@@ -706,4 +791,22 @@ final class DateTimeBuilder
         return buf.toString();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The exception used to report a failure when quiet, which has no stack trace.
+     */
+    private static final class QuietFailure extends DateTimeException {
+        /** Serialization version. */
+        private static final long serialVersionUID = -3470245786632587329L;
+
+        QuietFailure() {
+            super("Unable to resolve parsed fields");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
 }
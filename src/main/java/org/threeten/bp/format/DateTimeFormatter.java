@@ -42,6 +42,10 @@ import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
 import static org.threeten.bp.temporal.ChronoField.YEAR;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParseException;
@@ -130,7 +134,8 @@ public final class DateTimeFormatter {
             .appendValue(MONTH_OF_YEAR, 2)
             .appendLiteral('-')
             .appendValue(DAY_OF_MONTH, 2)
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE)
+            .withIsoFormat(IsoFormat.LOCAL_DATE);
     }
 
     //-----------------------------------------------------------------------
@@ -296,7 +301,8 @@ public final class DateTimeFormatter {
             .append(ISO_LOCAL_DATE)
             .appendLiteral('T')
             .append(ISO_LOCAL_TIME)
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE)
+            .withIsoFormat(IsoFormat.LOCAL_DATE_TIME);
     }
 
     //-----------------------------------------------------------------------
@@ -320,7 +326,8 @@ public final class DateTimeFormatter {
             .parseCaseInsensitive()
             .append(ISO_LOCAL_DATE_TIME)
             .appendOffsetId()
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE)
+            .withIsoFormat(IsoFormat.OFFSET_DATE_TIME);
     }
 
     //-----------------------------------------------------------------------
@@ -503,7 +510,8 @@ public final class DateTimeFormatter {
         ISO_INSTANT = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .appendInstant()
-            .toFormatter(ResolverStyle.STRICT);
+            .toFormatter(ResolverStyle.STRICT)
+            .withIsoFormat(IsoFormat.INSTANT);
     }
 
     //-----------------------------------------------------------------------
@@ -757,6 +765,12 @@ public final class DateTimeFormatter {
      * Any non-letter character, other than '[', ']', '{', '}' and the single quote will be output directly.
      * Despite this, it is recommended to use single quotes around all characters that you want to
      * output directly to ensure that future changes do not break your application.
+     * <p>
+     * Formatters created from patterns may be cached, returning the same formatter
+     * for the same pattern and locale. The cache is disabled by default, and is enabled
+     * by setting the system property {@code org.threeten.bp.format.DateTimeFormatter.patternCacheSize}
+     * to the maximum number of formatters to retain, evicting approximately the least recently used.
+     * Lookups in the cache do not lock.
      *
      * @param pattern  the pattern to use, not null
      * @return the formatter based on the pattern, not null
@@ -764,7 +778,7 @@ public final class DateTimeFormatter {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter();
+        return ofPattern(pattern, Locale.getDefault());
     }
 
     /**
@@ -777,6 +791,8 @@ public final class DateTimeFormatter {
      * <p>
      * The returned formatter will use the specified locale, but this can be changed
      * using {@link DateTimeFormatter#withLocale(Locale)}.
+     * <p>
+     * See {@link #ofPattern(String)} for details of the optional cache.
      *
      * @param pattern  the pattern to use, not null
      * @param locale  the locale to use, not null
@@ -785,9 +801,39 @@ public final class DateTimeFormatter {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
+        PatternCache cache = PatternCache.INSTANCE;
+        if (cache != null) {
+            Jdk8Methods.requireNonNull(pattern, "pattern");
+            Jdk8Methods.requireNonNull(locale, "locale");
+            return cache.get(pattern, locale);
+        }
         return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
     }
 
+    /**
+     * Gets the number of calls to {@code ofPattern} that were found in the pattern cache.
+     * <p>
+     * See {@link #ofPattern(String)} for details of the optional cache.
+     *
+     * @return the hit count, zero if the cache is disabled
+     */
+    public static long getPatternCacheHitCount() {
+        PatternCache cache = PatternCache.INSTANCE;
+        return (cache != null ? cache.getHitCount() : 0);
+    }
+
+    /**
+     * Gets the number of calls to {@code ofPattern} that were not found in the pattern cache.
+     * <p>
+     * See {@link #ofPattern(String)} for details of the optional cache.
+     *
+     * @return the miss count, zero if the cache is disabled
+     */
+    public static long getPatternCacheMissCount() {
+        PatternCache cache = PatternCache.INSTANCE;
+        return (cache != null ? cache.getMissCount() : 0);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a locale specific date format.
@@ -985,6 +1031,16 @@ public final class DateTimeFormatter {
     };
 
     //-----------------------------------------------------------------------
+    /**
+     * The buffer used when formatting to arrays and buffers, reused by each thread.
+     */
+    private static final ThreadLocal<StringBuilder> SCRATCH = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(64);
+        }
+    };
+
     /**
      * The printer and/or parser to use, not null.
      */
@@ -1013,6 +1069,10 @@ public final class DateTimeFormatter {
      * The zone to use for formatting, null for no override.
      */
     private final ZoneId zone;
+    /**
+     * The hand-written format to try first, null if none.
+     */
+    private final IsoFormat isoFormat;
 
     //-----------------------------------------------------------------------
     /**
@@ -1029,6 +1089,25 @@ public final class DateTimeFormatter {
     DateTimeFormatter(CompositePrinterParser printerParser, Locale locale,
                       DecimalStyle decimalStyle, ResolverStyle resolverStyle,
                       Set<TemporalField> resolverFields, Chronology chrono, ZoneId zone) {
+        this(printerParser, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param printerParser  the printer/parser to use, not null
+     * @param locale  the locale to use, not null
+     * @param decimalStyle  the decimal style to use, not null
+     * @param resolverStyle  the resolver style to use, not null
+     * @param resolverFields  the fields to use during resolving, null for all fields
+     * @param chrono  the chronology to use, null for no override
+     * @param zone  the zone to use, null for no override
+     * @param isoFormat  the hand-written format equivalent to the printer/parser, null if none
+     */
+    private DateTimeFormatter(CompositePrinterParser printerParser, Locale locale,
+                      DecimalStyle decimalStyle, ResolverStyle resolverStyle,
+                      Set<TemporalField> resolverFields, Chronology chrono, ZoneId zone,
+                      IsoFormat isoFormat) {
         this.printerParser = Jdk8Methods.requireNonNull(printerParser, "printerParser");
         this.locale = Jdk8Methods.requireNonNull(locale, "locale");
         this.decimalStyle = Jdk8Methods.requireNonNull(decimalStyle, "decimalStyle");
@@ -1036,6 +1115,20 @@ public final class DateTimeFormatter {
         this.resolverFields = resolverFields;
         this.chrono = chrono;
         this.zone = zone;
+        this.isoFormat = isoFormat;
+    }
+
+    /**
+     * Returns a copy of this formatter that tries the hand-written format first.
+     * <p>
+     * The hand-written format must be equivalent to this formatter.
+     * It is not retained by any of the other {@code with} methods.
+     *
+     * @param isoFormat  the hand-written format, not null
+     * @return a formatter based on this formatter with the hand-written format, not null
+     */
+    private DateTimeFormatter withIsoFormat(IsoFormat isoFormat) {
+        return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone, isoFormat);
     }
 
     //-----------------------------------------------------------------------
@@ -1380,13 +1473,12 @@ public final class DateTimeFormatter {
         Jdk8Methods.requireNonNull(temporal, "temporal");
         Jdk8Methods.requireNonNull(appendable, "appendable");
         try {
-            DateTimePrintContext context = new DateTimePrintContext(temporal, this);
             if (appendable instanceof StringBuilder) {
-                printerParser.print(context, (StringBuilder) appendable);
+                print(temporal, (StringBuilder) appendable);
             } else {
                 // buffer output to avoid writing to appendable in case of error
                 StringBuilder buf = new StringBuilder(32);
-                printerParser.print(context, buf);
+                print(temporal, buf);
                 appendable.append(buf);
             }
         } catch (IOException ex) {
@@ -1394,6 +1486,180 @@ public final class DateTimeFormatter {
         }
     }
 
+    private void print(TemporalAccessor temporal, StringBuilder buf) {
+        if (isoFormat == null || isoFormat.print(temporal, buf) == false) {
+            DateTimePrintContext context = new DateTimePrintContext(temporal, this);
+            printerParser.print(context, buf);
+        }
+    }
+
+    /**
+     * Formats a date-time object into a character array using this formatter.
+     * <p>
+     * This formats the date-time directly into the array, without creating a string.
+     * Nothing is written if an error occurs, including if the text does not fit.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param array  the array to print to, not null
+     * @param offset  the index in the array to print from
+     * @return the number of characters written
+     * @throws DateTimeException if an error occurs during formatting
+     * @throws IndexOutOfBoundsException if the offset is invalid or the text does not fit
+     */
+    public int formatTo(TemporalAccessor temporal, char[] array, int offset) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(array, "array");
+        checkOffset(offset, array.length);
+        StringBuilder buf = SCRATCH.get();
+        int start = buf.length();
+        try {
+            print(temporal, buf);
+            int length = checkFits(buf.length() - start, array.length - offset);
+            buf.getChars(start, buf.length(), array, offset);
+            return length;
+        } finally {
+            buf.setLength(start);
+        }
+    }
+
+    /**
+     * Formats a date-time object into a character buffer using this formatter.
+     * <p>
+     * This formats the date-time directly into the buffer at its position, without
+     * creating a string, advancing the position by the number of characters written.
+     * Nothing is written if an error occurs, including if the text does not fit.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param buffer  the buffer to print to, not null
+     * @return the number of characters written
+     * @throws DateTimeException if an error occurs during formatting
+     * @throws BufferOverflowException if the text does not fit in the remaining buffer
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     */
+    public int formatTo(TemporalAccessor temporal, CharBuffer buffer) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(buffer, "buffer");
+        StringBuilder buf = SCRATCH.get();
+        int start = buf.length();
+        try {
+            print(temporal, buf);
+            int length = buf.length() - start;
+            if (length > buffer.remaining()) {
+                throw new BufferOverflowException();
+            }
+            if (buffer.hasArray()) {
+                buf.getChars(start, buf.length(), buffer.array(), buffer.arrayOffset() + buffer.position());
+                buffer.position(buffer.position() + length);
+            } else {
+                for (int i = start; i < buf.length(); i++) {
+                    buffer.put(buf.charAt(i));
+                }
+            }
+            return length;
+        } finally {
+            buf.setLength(start);
+        }
+    }
+
+    /**
+     * Formats a date-time object into a byte array as ASCII using this formatter.
+     * <p>
+     * This formats the date-time directly into the array, one byte per character,
+     * without creating a string.
+     * Nothing is written if an error occurs, including if the text does not fit.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param array  the array to print to, not null
+     * @param offset  the index in the array to print from
+     * @return the number of bytes written
+     * @throws DateTimeException if an error occurs during formatting, or the text is not ASCII
+     * @throws IndexOutOfBoundsException if the offset is invalid or the text does not fit
+     */
+    public int formatTo(TemporalAccessor temporal, byte[] array, int offset) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(array, "array");
+        checkOffset(offset, array.length);
+        StringBuilder buf = SCRATCH.get();
+        int start = buf.length();
+        try {
+            print(temporal, buf);
+            int length = checkFits(checkAscii(buf, start), array.length - offset);
+            for (int i = start; i < buf.length(); i++) {
+                array[offset++] = (byte) buf.charAt(i);
+            }
+            return length;
+        } finally {
+            buf.setLength(start);
+        }
+    }
+
+    /**
+     * Formats a date-time object into a byte buffer as ASCII using this formatter.
+     * <p>
+     * This formats the date-time directly into the buffer at its position, one byte
+     * per character, without creating a string, advancing the position by the
+     * number of bytes written.
+     * Nothing is written if an error occurs, including if the text does not fit.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param buffer  the buffer to print to, not null
+     * @return the number of bytes written
+     * @throws DateTimeException if an error occurs during formatting, or the text is not ASCII
+     * @throws BufferOverflowException if the text does not fit in the remaining buffer
+     * @throws ReadOnlyBufferException if the buffer is read-only
+     */
+    public int formatTo(TemporalAccessor temporal, ByteBuffer buffer) {
+        Jdk8Methods.requireNonNull(temporal, "temporal");
+        Jdk8Methods.requireNonNull(buffer, "buffer");
+        StringBuilder buf = SCRATCH.get();
+        int start = buf.length();
+        try {
+            print(temporal, buf);
+            int length = checkAscii(buf, start);
+            if (length > buffer.remaining()) {
+                throw new BufferOverflowException();
+            }
+            if (buffer.hasArray()) {
+                byte[] array = buffer.array();
+                int pos = buffer.arrayOffset() + buffer.position();
+                for (int i = start; i < buf.length(); i++) {
+                    array[pos++] = (byte) buf.charAt(i);
+                }
+                buffer.position(buffer.position() + length);
+            } else {
+                for (int i = start; i < buf.length(); i++) {
+                    buffer.put((byte) buf.charAt(i));
+                }
+            }
+            return length;
+        } finally {
+            buf.setLength(start);
+        }
+    }
+
+    private static void checkOffset(int offset, int arrayLength) {
+        if (offset < 0 || offset > arrayLength) {
+            throw new IndexOutOfBoundsException("Invalid offset: " + offset + ", array length: " + arrayLength);
+        }
+    }
+
+    private static int checkFits(int length, int available) {
+        if (length > available) {
+            throw new IndexOutOfBoundsException("Formatted text of length " + length +
+                    " does not fit in the " + available + " elements available");
+        }
+        return length;
+    }
+
+    private static int checkAscii(StringBuilder buf, int start) {
+        for (int i = start; i < buf.length(); i++) {
+            if (buf.charAt(i) > 127) {
+                throw new DateTimeException("Formatted text is not ASCII: " + buf.substring(start));
+            }
+        }
+        return buf.length() - start;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fully parses the text producing a temporal object.
@@ -1484,9 +1750,16 @@ public final class DateTimeFormatter {
      * @return the parsed date-time, not null
      * @throws DateTimeParseException if unable to parse the requested result
      */
+    @SuppressWarnings("unchecked")
     public <T> T parse(CharSequence text, TemporalQuery<T> type) {
         Jdk8Methods.requireNonNull(text, "text");
         Jdk8Methods.requireNonNull(type, "type");
+        if (isoFormat != null && isoFormat.isResultOf(type)) {
+            Object parsed = isoFormat.parse(text);
+            if (parsed != null) {
+                return (T) parsed;
+            }
+        }
         try {
             DateTimeBuilder builder = parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
             return builder.build(type);
@@ -1497,6 +1770,107 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Fully parses ASCII text held in a byte array producing an object of the specified type.
+     * <p>
+     * This behaves as {@link #parse(CharSequence, TemporalQuery)}, but reads the
+     * bytes directly, avoiding the need to decode them to a {@code String} first.
+     * Each byte is read as the ASCII character of the same value.
+     * Bytes outside the ASCII range never match and cause the parse to fail.
+     *
+     * @param <T> the type to extract
+     * @param array  the array holding the text, not null
+     * @param offset  the index of the first byte of the text
+     * @param length  the number of bytes of text
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws IndexOutOfBoundsException if the offset or length is outside the array
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public <T> T parse(byte[] array, int offset, int length, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(array, "array");
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("Invalid offset: " + offset + ", length: " + length +
+                    ", array length: " + array.length);
+        }
+        return parse(new AsciiCharSequence(array, offset, length), type);
+    }
+
+    /**
+     * Fully parses ASCII text held in a byte buffer producing an object of the specified type.
+     * <p>
+     * This behaves as {@link #parse(CharSequence, TemporalQuery)}, but reads the
+     * bytes directly, avoiding the need to decode them to a {@code String} first.
+     * The text is the bytes between the position and limit of the buffer.
+     * Each byte is read as the ASCII character of the same value.
+     * Bytes outside the ASCII range never match and cause the parse to fail.
+     * <p>
+     * The position of the buffer is not changed.
+     *
+     * @param <T> the type to extract
+     * @param buffer  the buffer holding the text, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if unable to parse the requested result
+     */
+    public <T> T parse(ByteBuffer buffer, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(buffer, "buffer");
+        return parse(new AsciiCharSequence(buffer), type);
+    }
+
+    /**
+     * Parses the text producing an object of the specified type, returning null on failure.
+     * <p>
+     * This is intended for applications where invalid text is common, and the cost of
+     * creating an exception for each failure is significant.
+     * Errors are returned using the error index field of the {@code ParsePosition}
+     * instead of {@code DateTimeParseException}, as with {@code java.text.Format}.
+     * No description of the error is available.
+     * <p>
+     * The text will be parsed from the specified start {@code ParsePosition}.
+     * The entire length of the text does not have to be parsed, the {@code ParsePosition}
+     * will be updated with the index at the end of parsing.
+     * Callers requiring the whole text to be parsed must check the index.
+     * <p>
+     * If the text is parsed but cannot be resolved to the specified type, then
+     * the error index is set to the start position.
+     *
+     * @param <T> the type to extract
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with length parsed
+     *  and the index of any error, not null
+     * @param type  the type to extract, not null
+     * @return the parsed date-time, null if unable to parse the requested result
+     * @throws IndexOutOfBoundsException if the position is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T tryParse(CharSequence text, ParsePosition position, TemporalQuery<T> type) {
+        Jdk8Methods.requireNonNull(text, "text");
+        Jdk8Methods.requireNonNull(position, "position");
+        Jdk8Methods.requireNonNull(type, "type");
+        int start = position.getIndex();
+        if (isoFormat != null && start == 0 && isoFormat.isResultOf(type)) {
+            Object parsed = isoFormat.parse(text);
+            if (parsed != null) {
+                position.setIndex(text.length());
+                return (T) parsed;
+            }
+        }
+        Parsed parsed = parseUnresolved0(text, position);
+        if (parsed == null) {
+            return null;
+        }
+        try {
+            DateTimeBuilder builder = parsed.toBuilder();
+            builder.quiet = true;
+            return builder.resolve(resolverStyle, resolverFields).build(type);
+        } catch (RuntimeException ex) {
+            position.setIndex(start);
+            position.setErrorIndex(start);
+            return null;
+        }
+    }
+
     /**
      * Fully parses the text producing an object of one of the specified types.
      * <p>
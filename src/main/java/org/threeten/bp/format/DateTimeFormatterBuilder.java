@@ -48,8 +48,8 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -62,6 +62,9 @@ import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Instant;
@@ -733,6 +736,10 @@ public final class DateTimeFormatterBuilder {
             public Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale) {
                 return store.getTextIterator(style);
             }
+            @Override
+            PrefixTree<Long> getTextTree(TemporalField field, TextStyle style, Locale locale, boolean caseSensitive) {
+                return store.getTextTree(style, caseSensitive);
+            }
         };
         appendInternal(new TextPrinterParser(field, TextStyle.FULL, provider));
         return this;
@@ -2869,6 +2876,17 @@ public final class DateTimeFormatterBuilder {
                 throw new IndexOutOfBoundsException();
             }
             TextStyle style = (context.isStrict() ? textStyle : null);
+            PrefixTree<Long> tree = provider.getTextTree(field, style, context.getLocale(), context.isCaseSensitive());
+            if (tree != null) {
+                PrefixTree<Long> match = tree.match(parseText, position);
+                if (match != null) {
+                    return context.setParsedField(field, match.value, position, position + match.length);
+                }
+                if (context.isStrict()) {
+                    return ~position;
+                }
+                return numberPrinterParser().parse(context, parseText, position);
+            }
             Iterator<Entry<String, Long>> it = provider.getTextIterator(field, style, context.getLocale());
             if (it != null) {
                 while (it.hasNext()) {
@@ -3339,17 +3357,17 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses a zone ID.
      */
     static final class ZoneTextPrinterParser implements DateTimePrinterParser {
-        /** The text style to output. */
-        private static final Comparator<String> LENGTH_COMPARATOR = new Comparator<String>() {
-            @Override
-            public int compare(String str1, String str2) {
-                int cmp = str2.length() - str1.length();
-                if (cmp == 0) {
-                    cmp = str1.compareTo(str2);
-                }
-                return cmp;
+        /**
+         * The cached parse trees, indexed by style and case sensitivity, keyed by locale,
+         * with the number of zone IDs. The fixed index avoids allocating a key on lookup.
+         */
+        @SuppressWarnings("unchecked")
+        private static final ConcurrentMap<Locale, Entry<Integer, PrefixTree<String>>>[] PARSE_TREES = new ConcurrentMap[4];
+        static {
+            for (int i = 0; i < PARSE_TREES.length; i++) {
+                PARSE_TREES[i] = new ConcurrentHashMap<Locale, Entry<Integer, PrefixTree<String>>>(16, 0.75f, 2);
             }
-        };
+        }
         /** The text style to output. */
         private final TextStyle textStyle;
 
@@ -3374,9 +3392,7 @@ public final class DateTimeFormatterBuilder {
                 Instant instant = Instant.ofEpochSecond(temporal.getLong(INSTANT_SECONDS));
                 daylight = zone.getRules().isDaylightSavings(instant);
             }
-            TimeZone tz = TimeZone.getTimeZone(zone.getId());
-            int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
-            String text = tz.getDisplayName(daylight, tzstyle, context.getLocale());
+            String text = DateTimeTextProvider.getInstance().getZoneText(zone.getId(), daylight, textStyle, context.getLocale());
             buf.append(text);
             return true;
         }
@@ -3408,28 +3424,12 @@ public final class DateTimeFormatterBuilder {
                 return parseOffset(context, text, position, "UT");
             }
 
-            // this is a poor implementation that handles some but not all of the spec
-            // JDK8 has a lot of extra information here
-            Map<String, String> ids = new TreeMap<String, String>(LENGTH_COMPARATOR);
-            for (String id : ZoneId.getAvailableZoneIds()) {
-                ids.put(id, id);
-                TimeZone tz = TimeZone.getTimeZone(id);
-                int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
-                String textWinter = tz.getDisplayName(false, tzstyle, context.getLocale());
-                if (id.startsWith("Etc/") || (!textWinter.startsWith("GMT+") && !textWinter.startsWith("GMT+"))) {
-                    ids.put(textWinter, id);
-                }
-                String textSummer = tz.getDisplayName(true, tzstyle, context.getLocale());
-                if (id.startsWith("Etc/") || (!textSummer.startsWith("GMT+") && !textSummer.startsWith("GMT+"))) {
-                    ids.put(textSummer, id);
-                }
-            }
-            for (Entry<String, String> entry : ids.entrySet()) {
-                String name = entry.getKey();
-                if (context.subSequenceEquals(text, position, name, 0, name.length())) {
-                    context.setParsed(ZoneId.of(entry.getValue()));
-                    return position + name.length();
-                }
+            // find the longest matching ID or display name
+            PrefixTree<String> tree = getParseTree(context.getLocale(), context.isCaseSensitive());
+            PrefixTree<String> match = tree.match(text, position);
+            if (match != null) {
+                context.setParsed(ZoneId.of(match.value));
+                return position + match.length;
             }
             if (first == 'Z') {
                 context.setParsed(ZoneOffset.UTC);
@@ -3438,6 +3438,45 @@ public final class DateTimeFormatterBuilder {
             return ~position;
         }
 
+        /**
+         * Gets the shared tree of zone IDs and display names for the locale,
+         * rebuilding it if the available zone IDs have changed.
+         *
+         * @param locale  the locale, not null
+         * @param caseSensitive  whether to match case sensitively
+         * @return the tree, not null
+         */
+        private PrefixTree<String> getParseTree(Locale locale, boolean caseSensitive) {
+            Set<String> regionIds = ZoneRulesProvider.getAvailableZoneIds();
+            int regionIdsSize = regionIds.size();
+            int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
+            ConcurrentMap<Locale, Entry<Integer, PrefixTree<String>>> trees = PARSE_TREES[tzstyle * 2 + (caseSensitive ? 1 : 0)];
+            Entry<Integer, PrefixTree<String>> cached = trees.get(locale);
+            if (cached == null || cached.getKey() != regionIdsSize) {
+                DateTimeTextProvider provider = DateTimeTextProvider.getInstance();
+                Map<String, String> names = new HashMap<String, String>();
+                Set<String> sortedIds = new TreeSet<String>(regionIds);
+                for (String id : sortedIds) {
+                    addName(names, id, provider.getZoneText(id, false, textStyle, locale));
+                    addName(names, id, provider.getZoneText(id, true, textStyle, locale));
+                }
+                for (String id : sortedIds) {
+                    names.put(id, id);
+                }
+                cached = new SimpleImmutableEntry<Integer, PrefixTree<String>>(regionIdsSize, PrefixTree.build(names, caseSensitive));
+                trees.put(locale, cached);
+            }
+            return cached.getValue();
+        }
+
+        private static void addName(Map<String, String> names, String id, String name) {
+            if (id.startsWith("Etc/") || (!name.startsWith("GMT+") && !name.startsWith("GMT-"))) {
+                if (names.containsKey(name) == false) {
+                    names.put(name, id);
+                }
+            }
+        }
+
         private int parseOffset(DateTimeParseContext context, CharSequence text, int position, String prefix) {
             int prefixLen = prefix.length();
             int searchPos = position + prefixLen;
@@ -3498,19 +3537,21 @@ public final class DateTimeFormatterBuilder {
 
         //-----------------------------------------------------------------------
         /**
-         * The cached tree to speed up parsing.
+         * The cached case sensitive parse tree, with the number of zone IDs.
+         */
+        private static volatile Entry<Integer, PrefixTree<String>> cachedTree;
+        /**
+         * The cached case insensitive parse tree, with the number of zone IDs.
          */
-        private static volatile Entry<Integer, SubstringTree> cachedSubstringTree;
+        private static volatile Entry<Integer, PrefixTree<String>> cachedTreeCI;
 
         /**
          * This implementation looks for the longest matching string.
          * For example, parsing Etc/GMT-2 will return Etc/GMC-2 rather than just
          * Etc/GMC although both are valid.
          * <p>
-         * This implementation uses a tree to search for valid time-zone names in
-         * the parseText. The top level node of the tree has a length equal to the
-         * length of the shortest time-zone as well as the beginning characters of
-         * all other time-zones.
+         * This implementation uses a prefix tree of the region IDs, matching one
+         * character at a time without creating any strings.
          */
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
@@ -3551,62 +3592,46 @@ public final class DateTimeFormatterBuilder {
                 }
             }
 
-            // prepare parse tree
-            Set<String> regionIds = ZoneRulesProvider.getAvailableZoneIds();
-            final int regionIdsSize = regionIds.size();
-            Entry<Integer, SubstringTree> cached = cachedSubstringTree;
-            if (cached == null || cached.getKey() != regionIdsSize) {
-                synchronized (this) {
-                    cached = cachedSubstringTree;
-                    if (cached == null || cached.getKey() != regionIdsSize) {
-                        cachedSubstringTree = cached = new SimpleImmutableEntry<Integer, SubstringTree>(regionIdsSize, prepareParser(regionIds));
-                    }
-                }
-            }
-            SubstringTree tree = cached.getValue();
-
             // parse
-            String parsedZoneId = null;
-            String lastZoneId = null;
-            while (tree != null) {
-                int nodeLength = tree.length;
-                if (position + nodeLength > length) {
-                    break;
+            PrefixTree<String> match = getParseTree(context.isCaseSensitive()).match(text, position);
+            if (match == null) {
+                if (context.charEquals(nextChar, 'Z')) {
+                    context.setParsed(ZoneOffset.UTC);
+                    return position + 1;
                 }
-                lastZoneId = parsedZoneId;
-                parsedZoneId = text.subSequence(position, position + nodeLength).toString();
-                tree = tree.get(parsedZoneId, context.isCaseSensitive());
-            }
-            ZoneId zone = convertToZone(regionIds, parsedZoneId, context.isCaseSensitive());
-            if (zone == null) {
-                zone = convertToZone(regionIds, lastZoneId, context.isCaseSensitive());
-                if (zone == null) {
-                    if (context.charEquals(nextChar, 'Z')) {
-                        context.setParsed(ZoneOffset.UTC);
-                        return position + 1;
-                    }
-                    return ~position;
-                }
-                parsedZoneId = lastZoneId;
+                return ~position;
             }
-            context.setParsed(zone);
-            return position + parsedZoneId.length();
+            context.setParsed(ZoneId.of(match.value));
+            return position + match.length;
         }
 
-        private ZoneId convertToZone(Set<String> regionIds, String parsedZoneId, boolean caseSensitive) {
-            if (parsedZoneId == null) {
-                return null;
-            }
-            if (caseSensitive) {
-                return (regionIds.contains(parsedZoneId) ? ZoneId.of(parsedZoneId) : null);
-            } else {
-                for (String regionId : regionIds) {
-                    if (regionId.equalsIgnoreCase(parsedZoneId)) {
-                        return ZoneId.of(regionId);
-                    }
+        /**
+         * Gets the tree of region IDs used for parsing,
+         * rebuilding it if the available zone IDs have changed.
+         * <p>
+         * Zone IDs can be added but never removed, thus the number of IDs
+         * identifies the set of IDs.
+         *
+         * @param caseSensitive  whether to match case sensitively
+         * @return the tree, not null
+         */
+        private static PrefixTree<String> getParseTree(boolean caseSensitive) {
+            Set<String> regionIds = ZoneRulesProvider.getAvailableZoneIds();
+            int regionIdsSize = regionIds.size();
+            Entry<Integer, PrefixTree<String>> cached = (caseSensitive ? cachedTree : cachedTreeCI);
+            if (cached == null || cached.getKey() != regionIdsSize) {
+                Map<String, String> ids = new HashMap<String, String>();
+                for (String id : regionIds) {
+                    ids.put(id, id);
+                }
+                cached = new SimpleImmutableEntry<Integer, PrefixTree<String>>(regionIdsSize, PrefixTree.build(ids, caseSensitive));
+                if (caseSensitive) {
+                    cachedTree = cached;
+                } else {
+                    cachedTreeCI = cached;
                 }
-                return null;
             }
+            return cached.getValue();
         }
 
         private int parsePrefixedOffset(DateTimeParseContext context, CharSequence text, int prefixPos, int position) {
@@ -3628,105 +3653,162 @@ public final class DateTimeFormatterBuilder {
         }
 
         //-----------------------------------------------------------------------
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An immutable prefix tree, or trie, of strings to values.
+     * <p>
+     * Each node holds its children in arrays sorted by character, allowing the
+     * longest matching string to be found with one binary search per branch.
+     * Chains of nodes with a single child and no value are collapsed into the
+     * child, which then holds the characters of the chain to be compared in turn.
+     * When not case sensitive, the characters are folded before being added or matched.
+     *
+     * @param <V> the type of the values
+     */
+    static final class PrefixTree<V> {
+        /** The length of the strings ending at this node. */
+        final int length;
+        /** The value of the string ending at this node, null if none. */
+        final V value;
+        /** Whether the tree is case sensitive. */
+        private final boolean caseSensitive;
+        /** The sorted characters leading to the children. */
+        private final char[] chars;
+        /** The children, in the same order as the characters. */
+        private final PrefixTree<V>[] children;
+        /** The characters following the character leading to this node, which must also match. */
+        private final char[] tail;
+
+        private PrefixTree(int length, V value, boolean caseSensitive, char[] chars, PrefixTree<V>[] children, char[] tail) {
+            this.length = length;
+            this.value = value;
+            this.caseSensitive = caseSensitive;
+            this.chars = chars;
+            this.children = children;
+            this.tail = tail;
+        }
+
         /**
-         * Model a tree of substrings to make the parsing easier. Due to the nature
-         * of time-zone names, it can be faster to parse based in unique substrings
-         * rather than just a character by character match.
+         * Builds a tree from the map of strings to values.
          * <p>
-         * For example, to parse America/Denver we can look at the first two
-         * character "Am". We then notice that the shortest time-zone that starts
-         * with Am is America/Nome which is 12 characters long. Checking the first
-         * 12 characters of America/Denver gives America/Denv which is a substring
-         * of only 1 time-zone: America/Denver. Thus, with just 3 comparisons that
-         * match can be found.
+         * When not case sensitive, and more than one string folds to the same key,
+         * the value of the first string in natural order is used.
+         *
+         * @param <V> the type of the values
+         * @param values  the map of strings to values, not null
+         * @param caseSensitive  whether the tree is case sensitive
+         * @return the tree, not null
+         */
+        static <V> PrefixTree<V> build(Map<String, V> values, boolean caseSensitive) {
+            return build(new TreeMap<String, V>(values).entrySet(), caseSensitive);
+        }
+
+        /**
+         * Builds a tree from the entries of strings to values.
          * <p>
-         * This structure maps substrings to substrings of a longer length. Each
-         * node of the tree contains a length and a map of valid substrings to
-         * sub-nodes. The parser gets the length from the root node. It then
-         * extracts a substring of that length from the parseText. If the map
-         * contains the substring, it is set as the possible time-zone and the
-         * sub-node for that substring is retrieved. The process continues until the
-         * substring is no longer found, at which point the matched text is checked
-         * against the real time-zones.
+         * When more than one entry has the same key, after folding if not
+         * case sensitive, the value of the first entry is used.
+         *
+         * @param <V> the type of the values
+         * @param entries  the entries of strings to values, not null
+         * @param caseSensitive  whether the tree is case sensitive
+         * @return the tree, not null
          */
-        private static final class SubstringTree {
-            /**
-             * The length of the substring this node of the tree contains.
-             * Subtrees will have a longer length.
-             */
-            final int length;
-            /**
-             * Map of a substring to a set of substrings that contain the key.
-             */
-            private final Map<CharSequence, SubstringTree> substringMap = new HashMap<CharSequence, SubstringTree>();
-            /**
-             * Map of a substring to a set of substrings that contain the key.
-             */
-            private final Map<String, SubstringTree> substringMapCI = new HashMap<String, SubstringTree>();
-
-            /**
-             * Constructor.
-             *
-             * @param length  the length of this tree
-             */
-            private SubstringTree(int length) {
-                this.length = length;
-            }
-
-            private SubstringTree get(CharSequence substring2, boolean caseSensitive) {
-                if (caseSensitive) {
-                    return substringMap.get(substring2);
-                } else {
-                    return substringMapCI.get(substring2.toString().toLowerCase(Locale.ENGLISH));
-                }
-            }
-
-            /**
-             * Values must be added from shortest to longest.
-             *
-             * @param newSubstring  the substring to add, not null
-             */
-            private void add(String newSubstring) {
-                int idLen = newSubstring.length();
-                if (idLen == length) {
-                    substringMap.put(newSubstring, null);
-                    substringMapCI.put(newSubstring.toLowerCase(Locale.ENGLISH), null);
-                } else if (idLen > length) {
-                    String substring = newSubstring.substring(0, length);
-                    SubstringTree parserTree = substringMap.get(substring);
-                    if (parserTree == null) {
-                        parserTree = new SubstringTree(idLen);
-                        substringMap.put(substring, parserTree);
-                        substringMapCI.put(substring.toLowerCase(Locale.ENGLISH), parserTree);
+        static <V> PrefixTree<V> build(Iterable<? extends Entry<String, V>> entries, boolean caseSensitive) {
+            Builder<V> root = new Builder<V>();
+            for (Entry<String, V> entry : entries) {
+                String key = entry.getKey();
+                Builder<V> node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    char ch = (caseSensitive ? key.charAt(i) : fold(key.charAt(i)));
+                    Builder<V> child = node.children.get(ch);
+                    if (child == null) {
+                        child = new Builder<V>();
+                        node.children.put(ch, child);
                     }
-                    parserTree.add(newSubstring);
+                    node = child;
+                }
+                if (node.value == null) {
+                    node.value = entry.getValue();
                 }
             }
+            return root.build(0, caseSensitive, new char[0]);
         }
 
         /**
-         * Builds an optimized parsing tree.
+         * Finds the node of the longest string in the tree matching the text at the position.
          *
-         * @param availableIDs  the available IDs, not null, not empty
-         * @return the tree, not null
+         * @param text  the text to match, not null
+         * @param position  the position to match from
+         * @return the matching node with a value, null if no string matches
          */
-        private static SubstringTree prepareParser(Set<String> availableIDs) {
-            // sort by length
-            List<String> ids = new ArrayList<String>(availableIDs);
-            Collections.sort(ids, LENGTH_SORT);
-
-            // build the tree
-            SubstringTree tree = new SubstringTree(ids.get(0).length());
-            for (String id : ids) {
-                tree.add(id);
+        PrefixTree<V> match(CharSequence text, int position) {
+            PrefixTree<V> node = this;
+            PrefixTree<V> match = (value != null ? this : null);
+            int end = text.length();
+            int pos = position;
+            outer:
+            while (pos < end) {
+                char ch = (caseSensitive ? text.charAt(pos) : fold(text.charAt(pos)));
+                int index = Arrays.binarySearch(node.chars, ch);
+                if (index < 0) {
+                    break;
+                }
+                node = node.children[index];
+                pos++;
+                char[] tail = node.tail;
+                if (pos + tail.length > end) {
+                    break;
+                }
+                for (int i = 0; i < tail.length; i++, pos++) {
+                    ch = (caseSensitive ? text.charAt(pos) : fold(text.charAt(pos)));
+                    if (ch != tail[i]) {
+                        break outer;
+                    }
+                }
+                if (node.value != null) {
+                    match = node;
+                }
             }
-            return tree;
+            return match;
         }
 
-        //-----------------------------------------------------------------------
-        @Override
-        public String toString() {
-            return description;
+        private static char fold(char ch) {
+            return Character.toLowerCase(Character.toUpperCase(ch));
+        }
+
+        /**
+         * Mutable node used while building.
+         */
+        private static final class Builder<V> {
+            private final TreeMap<Character, Builder<V>> children = new TreeMap<Character, Builder<V>>();
+            private V value;
+
+            @SuppressWarnings("unchecked")
+            private PrefixTree<V> build(int length, boolean caseSensitive, char[] tail) {
+                char[] chars = new char[children.size()];
+                PrefixTree<V>[] nodes = new PrefixTree[children.size()];
+                int i = 0;
+                for (Entry<Character, Builder<V>> entry : children.entrySet()) {
+                    chars[i] = entry.getKey();
+                    StringBuilder childTail = new StringBuilder();
+                    Builder<V> child = entry.getValue();
+                    while (child.value == null && child.children.size() == 1) {
+                        Entry<Character, Builder<V>> only = child.children.firstEntry();
+                        childTail.append(only.getKey().charValue());
+                        child = only.getValue();
+                    }
+                    nodes[i] = child.build(length + 1 + childTail.length(), caseSensitive, childTail.toString().toCharArray());
+                    i++;
+                }
+                return new PrefixTree<V>(length, value, caseSensitive, chars, nodes, tail);
+            }
         }
     }
 
@@ -3924,15 +4006,4 @@ public final class DateTimeFormatterBuilder {
         }
     }
 
-    //-------------------------------------------------------------------------
-    /**
-     * Length comparator.
-     */
-    static final Comparator<String> LENGTH_SORT = new Comparator<String>() {
-        @Override
-        public int compare(String str1, String str2) {
-            return str1.length() == str2.length() ? str1.compareTo(str2) : str1.length() - str2.length();
-        }
-    };
-
 }
@@ -32,10 +32,8 @@
 package org.threeten.bp.format;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 
 import org.threeten.bp.Period;
 import org.threeten.bp.ZoneId;
@@ -342,8 +340,10 @@ final class DateTimeParseContext {
      */
     int setParsedField(TemporalField field, long value, int errorPos, int successPos) {
         Jdk8Methods.requireNonNull(field, "field");
-        Long old = currentParsed().fieldValues.put(field, value);
-        return (old != null && old.longValue() != value) ? ~errorPos : successPos;
+        FieldValueMap fieldValues = currentParsed().fieldValues;
+        boolean conflict = fieldValues.contains(field) && fieldValues.getLong(field) != value;
+        fieldValues.putLong(field, value);
+        return conflict ? ~errorPos : successPos;
     }
 
     /**
@@ -425,7 +425,7 @@ final class DateTimeParseContext {
     final class Parsed extends DefaultInterfaceTemporalAccessor {
         Chronology chrono = null;
         ZoneId zone = null;
-        final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+        final FieldValueMap fieldValues = new FieldValueMap();
         boolean leapSecond;
         Period excessDays = Period.ZERO;
         List<Object[]> callbacks;
@@ -436,7 +436,7 @@ final class DateTimeParseContext {
             Parsed cloned = new Parsed();
             cloned.chrono = this.chrono;
             cloned.zone = this.zone;
-            cloned.fieldValues.putAll(this.fieldValues);
+            cloned.fieldValues.copyFrom(this.fieldValues);
             cloned.leapSecond = this.leapSecond;
             return cloned;
         }
@@ -450,18 +450,14 @@ final class DateTimeParseContext {
         }
         @Override
         public int get(TemporalField field) {
-            if (fieldValues.containsKey(field) == false) {
-                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
-            }
-            long value = fieldValues.get(field);
-            return Jdk8Methods.safeToInt(value);
+            return Jdk8Methods.safeToInt(getLong(field));
         }
         @Override
         public long getLong(TemporalField field) {
-            if (fieldValues.containsKey(field) == false) {
+            if (field == null || fieldValues.contains(field) == false) {
                 throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
             }
-            return fieldValues.get(field);
+            return fieldValues.getLong(field);
         }
         @SuppressWarnings("unchecked")
         @Override
@@ -489,7 +485,7 @@ final class DateTimeParseContext {
          */
         DateTimeBuilder toBuilder() {
             DateTimeBuilder builder = new DateTimeBuilder();
-            builder.fieldValues.putAll(fieldValues);
+            builder.fieldValues.copyFrom(fieldValues);
             builder.chrono = getEffectiveChronology();
             if (zone != null) {
                 builder.zone = zone;
@@ -34,8 +34,10 @@ package org.threeten.bp.format;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map.Entry;
+import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.threeten.bp.format.DateTimeFormatterBuilder.PrefixTree;
 import org.threeten.bp.temporal.TemporalField;
 
 /**
@@ -112,6 +114,44 @@ public abstract class DateTimeTextProvider {
      */
     public abstract Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale);
 
+    /**
+     * Gets a prefix tree of text to field value for the specified field, locale and style
+     * for the purpose of parsing.
+     * <p>
+     * The tree matches the longest text in a single pass, in the same way as
+     * searching the iterator of {@link #getTextIterator} for the first match.
+     * This implementation returns null, causing the iterator to be used.
+     *
+     * @param field  the field to get text for, not null
+     * @param style  the style to get text for, null for all parsable text
+     * @param locale  the locale to get text for, not null
+     * @param caseSensitive  whether the tree matches case sensitively
+     * @return the tree of text to field value, null if not available
+     */
+    PrefixTree<Long> getTextTree(TemporalField field, TextStyle style, Locale locale, boolean caseSensitive) {
+        return null;
+    }
+
+    /**
+     * Gets the display name of a time-zone for the specified locale and style.
+     * <p>
+     * The full style returns the long name, such as 'Pacific Standard Time',
+     * while the short style returns the abbreviation, such as 'PST'.
+     * <p>
+     * This implementation queries {@link TimeZone#getDisplayName(boolean, int, Locale)}
+     * on each call. Implementations should cache the result.
+     *
+     * @param zoneId  the region zone ID to get the name of, not null
+     * @param daylight  true to get the daylight savings name, false for the standard name
+     * @param style  the style to get text for, not null
+     * @param locale  the locale to get text for, not null
+     * @return the display name, not null
+     */
+    public String getZoneText(String zoneId, boolean daylight, TextStyle style, Locale locale) {
+        int tzstyle = (style.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
+        return TimeZone.getTimeZone(zoneId).getDisplayName(daylight, tzstyle, locale);
+    }
+
     //-----------------------------------------------------------------------
     // use JVM class initializtion to lock the singleton without additional synchronization
     static class ProviderSingleton {
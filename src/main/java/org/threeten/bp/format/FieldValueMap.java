@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * A map of field to value optimized for {@code ChronoField}.
+ * <p>
+ * The values of {@code ChronoField} are held in a primitive array indexed by ordinal,
+ * with a bitmask recording which are present, avoiding boxing when parsing and resolving.
+ * Other fields are held in a separate map, created only when needed.
+ * The methods of {@link Map} remain available, boxing as required, so that the
+ * map can be passed to {@link TemporalField#resolve} and chronology resolution.
+ * <p>
+ * Iteration returns the {@code ChronoField} entries in ordinal order, followed by
+ * any other fields.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * It should only be used from a single thread.
+ */
+final class FieldValueMap extends AbstractMap<TemporalField, Long> {
+
+    /**
+     * The chrono fields, by ordinal.
+     */
+    private static final ChronoField[] CHRONO_FIELDS = ChronoField.values();
+    static {
+        if (CHRONO_FIELDS.length > 64) {
+            throw new IllegalStateException("Too many fields for bitmask");
+        }
+    }
+
+    /**
+     * The values of the chrono fields, by ordinal.
+     */
+    private final long[] values = new long[CHRONO_FIELDS.length];
+    /**
+     * The bitmask of the chrono fields that are present, by ordinal.
+     */
+    private long present;
+    /**
+     * The values of other fields, null if none have been added.
+     * Package-private for testing.
+     */
+    Map<TemporalField, Long> others;
+
+    /**
+     * Creates an empty instance.
+     */
+    FieldValueMap() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the field is present.
+     *
+     * @param field  the field to check, not null
+     * @return true if present
+     */
+    boolean contains(ChronoField field) {
+        return (present & (1L << field.ordinal())) != 0;
+    }
+
+    /**
+     * Gets the value of the field, which must be present.
+     *
+     * @param field  the field to get, not null
+     * @return the value
+     */
+    long getLong(ChronoField field) {
+        return values[field.ordinal()];
+    }
+
+    /**
+     * Sets the value of the field.
+     *
+     * @param field  the field to set, not null
+     * @param value  the value to set
+     */
+    void putLong(ChronoField field, long value) {
+        int ordinal = field.ordinal();
+        values[ordinal] = value;
+        present |= (1L << ordinal);
+    }
+
+    /**
+     * Removes the field, returning its value.
+     * <p>
+     * The returned value is only meaningful if the field was present.
+     *
+     * @param field  the field to remove, not null
+     * @return the removed value
+     */
+    long removeLong(ChronoField field) {
+        int ordinal = field.ordinal();
+        present &= ~(1L << ordinal);
+        return values[ordinal];
+    }
+
+    /**
+     * Checks if the field is present.
+     *
+     * @param field  the field to check, not null
+     * @return true if present
+     */
+    boolean contains(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return contains((ChronoField) field);
+        }
+        return others != null && others.containsKey(field);
+    }
+
+    /**
+     * Gets the value of the field, which must be present.
+     *
+     * @param field  the field to get, not null
+     * @return the value
+     */
+    long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return getLong((ChronoField) field);
+        }
+        return others.get(field);
+    }
+
+    /**
+     * Sets the value of the field.
+     *
+     * @param field  the field to set, not null
+     * @param value  the value to set
+     */
+    void putLong(TemporalField field, long value) {
+        if (field instanceof ChronoField) {
+            putLong((ChronoField) field, value);
+        } else {
+            if (others == null) {
+                others = new HashMap<TemporalField, Long>();
+            }
+            others.put(field, value);
+        }
+    }
+
+    /**
+     * Gets the fields that are not {@code ChronoField}.
+     * <p>
+     * The set supports removal. No map is created if there are no other fields.
+     *
+     * @return the other fields, not null
+     */
+    Set<TemporalField> otherFields() {
+        if (others == null) {
+            return Collections.<TemporalField>emptySet();
+        }
+        return others.keySet();
+    }
+
+    /**
+     * Replaces the contents of this map with those of another.
+     *
+     * @param other  the map to copy, not null
+     */
+    void copyFrom(FieldValueMap other) {
+        System.arraycopy(other.values, 0, values, 0, values.length);
+        present = other.present;
+        others = (other.others != null && other.others.isEmpty() == false ?
+                new HashMap<TemporalField, Long>(other.others) : null);
+    }
+
+    /**
+     * Retains only the specified fields.
+     *
+     * @param fields  the fields to retain, not null
+     */
+    void retainFields(Set<TemporalField> fields) {
+        for (int i = 0; i < CHRONO_FIELDS.length; i++) {
+            if ((present & (1L << i)) != 0 && fields.contains(CHRONO_FIELDS[i]) == false) {
+                present &= ~(1L << i);
+            }
+        }
+        if (others != null) {
+            others.keySet().retainAll(fields);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int size() {
+        return Long.bitCount(present) + (others != null ? others.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return present == 0 && (others == null || others.isEmpty());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key instanceof ChronoField) {
+            return contains((ChronoField) key);
+        }
+        return others != null && others.containsKey(key);
+    }
+
+    @Override
+    public Long get(Object key) {
+        if (key instanceof ChronoField) {
+            ChronoField field = (ChronoField) key;
+            return contains(field) ? getLong(field) : null;
+        }
+        return others != null ? others.get(key) : null;
+    }
+
+    @Override
+    public Long put(TemporalField key, Long value) {
+        if (key instanceof ChronoField) {
+            ChronoField field = (ChronoField) key;
+            Long old = get(field);
+            putLong(field, value);
+            return old;
+        }
+        if (others == null) {
+            others = new HashMap<TemporalField, Long>();
+        }
+        return others.put(key, value);
+    }
+
+    @Override
+    public Long remove(Object key) {
+        if (key instanceof ChronoField) {
+            ChronoField field = (ChronoField) key;
+            return contains(field) ? removeLong(field) : null;
+        }
+        return others != null ? others.remove(key) : null;
+    }
+
+    @Override
+    public void clear() {
+        present = 0;
+        others = null;
+    }
+
+    @Override
+    public Set<Entry<TemporalField, Long>> entrySet() {
+        return new AbstractSet<Entry<TemporalField, Long>>() {
+            @Override
+            public Iterator<Entry<TemporalField, Long>> iterator() {
+                return new EntryIterator();
+            }
+            @Override
+            public int size() {
+                return FieldValueMap.this.size();
+            }
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Iterator over the chrono fields in ordinal order, then the other fields.
+     */
+    private final class EntryIterator implements Iterator<Entry<TemporalField, Long>> {
+        /** The ordinal of the next chrono field, or the length when done. */
+        private int next = nextOrdinal(0);
+        /** The ordinal of the last chrono field returned, -1 if none. */
+        private int last = -1;
+        /** Whether the last entry returned came from the other fields. */
+        private boolean lastFromOthers;
+        /** The iterator over the other fields, null until reached. */
+        private Iterator<Entry<TemporalField, Long>> othersIterator;
+
+        private int nextOrdinal(int from) {
+            int ordinal = from;
+            while (ordinal < CHRONO_FIELDS.length && (present & (1L << ordinal)) == 0) {
+                ordinal++;
+            }
+            return ordinal;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next < CHRONO_FIELDS.length) {
+                return true;
+            }
+            if (othersIterator == null) {
+                if (others == null) {
+                    return false;
+                }
+                othersIterator = others.entrySet().iterator();
+            }
+            return othersIterator.hasNext();
+        }
+
+        @Override
+        public Entry<TemporalField, Long> next() {
+            if (hasNext() == false) {
+                throw new NoSuchElementException();
+            }
+            if (next < CHRONO_FIELDS.length) {
+                last = next;
+                lastFromOthers = false;
+                next = nextOrdinal(next + 1);
+                return new ChronoFieldEntry(CHRONO_FIELDS[last]);
+            }
+            Entry<TemporalField, Long> entry = othersIterator.next();
+            last = -1;
+            lastFromOthers = true;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            // based on the last entry returned, as hasNext() may have created the other iterator
+            if (lastFromOthers) {
+                othersIterator.remove();
+                lastFromOthers = false;
+            } else if (last >= 0) {
+                removeLong(CHRONO_FIELDS[last]);
+                last = -1;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    /**
+     * Entry for a chrono field, writing through to the map.
+     */
+    private final class ChronoFieldEntry implements Entry<TemporalField, Long> {
+        /** The field. */
+        private final ChronoField field;
+
+        private ChronoFieldEntry(ChronoField field) {
+            this.field = field;
+        }
+
+        @Override
+        public TemporalField getKey() {
+            return field;
+        }
+
+        @Override
+        public Long getValue() {
+            return getLong(field);
+        }
+
+        @Override
+        public Long setValue(Long value) {
+            Long old = getLong(field);
+            putLong(field, value);
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof Entry) {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                return field.equals(other.getKey()) && getValue().equals(other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return field.hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return field + "=" + getValue();
+        }
+    }
+
+}
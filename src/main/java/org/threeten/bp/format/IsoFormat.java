@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalQuery;
+
+/**
+ * Hand-written printing and parsing for the fixed layout ISO formatters.
+ * <p>
+ * Each constant handles the common form of one formatter, such as a four digit year,
+ * directly on the characters, without the general purpose printer-parsers.
+ * Anything else, including invalid input, is declined so that the formatter
+ * falls back to the general purpose path, thus the results and error messages
+ * are identical to those of the formatter.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is an immutable and thread-safe enum.
+ */
+enum IsoFormat {
+
+    /**
+     * The format of {@link DateTimeFormatter#ISO_LOCAL_DATE}, such as '2011-12-03'.
+     */
+    LOCAL_DATE(LocalDate.FROM) {
+        @Override
+        boolean print(TemporalAccessor temporal, StringBuilder buf) {
+            if (temporal instanceof LocalDate == false || isPrintableYear(((LocalDate) temporal).getYear()) == false) {
+                return false;
+            }
+            printDate((LocalDate) temporal, buf);
+            return true;
+        }
+        @Override
+        Object parse(CharSequence text) {
+            return (text.length() == DATE_LENGTH ? parseDate(text) : null);
+        }
+    },
+    /**
+     * The format of {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}, such as '2011-12-03T10:15:30'.
+     */
+    LOCAL_DATE_TIME(LocalDateTime.FROM) {
+        @Override
+        boolean print(TemporalAccessor temporal, StringBuilder buf) {
+            if (temporal instanceof LocalDateTime == false || isPrintableYear(((LocalDateTime) temporal).getYear()) == false) {
+                return false;
+            }
+            printDateTime((LocalDateTime) temporal, buf);
+            return true;
+        }
+        @Override
+        Object parse(CharSequence text) {
+            return parseDateTime(text, text.length());
+        }
+    },
+    /**
+     * The format of {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}, such as '2011-12-03T10:15:30+01:00'.
+     */
+    OFFSET_DATE_TIME(OffsetDateTime.FROM) {
+        @Override
+        boolean print(TemporalAccessor temporal, StringBuilder buf) {
+            if (temporal instanceof OffsetDateTime == false || isPrintableYear(((OffsetDateTime) temporal).getYear()) == false) {
+                return false;
+            }
+            OffsetDateTime odt = (OffsetDateTime) temporal;
+            printDateTime(odt.toLocalDateTime(), buf);
+            buf.append(odt.getOffset().getId());
+            return true;
+        }
+        @Override
+        Object parse(CharSequence text) {
+            int length = text.length();
+            if (length < DATE_LENGTH + 1) {
+                return null;
+            }
+            char last = text.charAt(length - 1);
+            if (last == 'Z' || last == 'z') {
+                LocalDateTime ldt = parseDateTime(text, length - 1);
+                return (ldt != null ? OffsetDateTime.of(ldt, ZoneOffset.UTC) : null);
+            }
+            // only the offset form without seconds is handled
+            int offsetStart = length - 6;
+            if (offsetStart < DATE_LENGTH || text.charAt(offsetStart + 3) != ':') {
+                return null;
+            }
+            char sign = text.charAt(offsetStart);
+            int hours = parse2(text, offsetStart + 1);
+            int minutes = parse2(text, offsetStart + 4);
+            if ((sign != '+' && sign != '-') || hours < 0 || minutes < 0 || minutes > 59) {
+                return null;
+            }
+            int totalSeconds = hours * 3600 + minutes * 60;
+            if (totalSeconds > MAX_OFFSET_SECONDS) {
+                return null;
+            }
+            LocalDateTime ldt = parseDateTime(text, offsetStart);
+            if (ldt == null) {
+                return null;
+            }
+            return OffsetDateTime.of(ldt, ZoneOffset.ofTotalSeconds(sign == '-' ? -totalSeconds : totalSeconds));
+        }
+    },
+    /**
+     * The format of {@link DateTimeFormatter#ISO_INSTANT}, such as '2011-12-03T10:15:30Z'.
+     */
+    INSTANT(Instant.FROM) {
+        @Override
+        boolean print(TemporalAccessor temporal, StringBuilder buf) {
+            if (temporal instanceof Instant == false) {
+                return false;
+            }
+            Instant instant = (Instant) temporal;
+            long epochSecond = instant.getEpochSecond();
+            if (epochSecond < MIN_PRINTABLE_SECOND || epochSecond > MAX_PRINTABLE_SECOND) {
+                return false;
+            }
+            LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+            printDate(ldt.toLocalDate(), buf);
+            buf.append('T');
+            printTime(ldt.getHour(), ldt.getMinute(), ldt.getSecond(), buf);
+            int nano = instant.getNano();
+            if (nano != 0) {
+                // groups of three digits, as per the formatter
+                buf.append('.');
+                if (nano % 1000000 == 0) {
+                    printDigits(nano / 1000000, 100, buf);
+                } else if (nano % 1000 == 0) {
+                    printDigits(nano / 1000, 100000, buf);
+                } else {
+                    printDigits(nano, 100000000, buf);
+                }
+            }
+            buf.append('Z');
+            return true;
+        }
+        @Override
+        Object parse(CharSequence text) {
+            // seconds are required
+            int length = text.length();
+            if (length < DATE_LENGTH + 10) {
+                return null;
+            }
+            char last = text.charAt(length - 1);
+            if (last != 'Z' && last != 'z') {
+                return null;
+            }
+            LocalDateTime ldt = parseDateTime(text, length - 1);
+            if (ldt == null) {
+                return null;
+            }
+            return Instant.ofEpochSecond(ldt.toEpochSecond(ZoneOffset.UTC), ldt.getNano());
+        }
+    };
+
+    /**
+     * The length of a date with a four digit year.
+     */
+    private static final int DATE_LENGTH = 10;
+    /**
+     * The maximum absolute offset in seconds.
+     */
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    /**
+     * The epoch second of 0000-01-01T00:00:00Z.
+     */
+    private static final long MIN_PRINTABLE_SECOND = LocalDate.of(0, 1, 1).toEpochDay() * 86400L;
+    /**
+     * The epoch second of 9999-12-31T23:59:59Z.
+     */
+    private static final long MAX_PRINTABLE_SECOND = LocalDate.of(9999, 12, 31).toEpochDay() * 86400L + 86399L;
+
+    /**
+     * The query that the parsed object is the result of.
+     */
+    private final TemporalQuery<?> query;
+
+    private IsoFormat(TemporalQuery<?> query) {
+        this.query = query;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the parsed object is the result of the specified query.
+     *
+     * @param query  the query to check, not null
+     * @return true if {@link #parse} returns the result of the query
+     */
+    boolean isResultOf(TemporalQuery<?> query) {
+        return this.query == query;
+    }
+
+    /**
+     * Prints the temporal to the buffer, if it is of the common form.
+     * <p>
+     * Nothing is appended if false is returned.
+     *
+     * @param temporal  the temporal to print, not null
+     * @param buf  the buffer to append to, not null
+     * @return true if printed, false if the general purpose printer must be used
+     */
+    abstract boolean print(TemporalAccessor temporal, StringBuilder buf);
+
+    /**
+     * Parses the whole text, if it is of the common form.
+     *
+     * @param text  the text to parse, not null
+     * @return the result of the query, null if the general purpose parser must be used
+     */
+    abstract Object parse(CharSequence text);
+
+    //-----------------------------------------------------------------------
+    private static boolean isPrintableYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    private static void printDate(LocalDate date, StringBuilder buf) {
+        printDigits(date.getYear(), 1000, buf);
+        buf.append('-');
+        printDigits(date.getMonthValue(), 10, buf);
+        buf.append('-');
+        printDigits(date.getDayOfMonth(), 10, buf);
+    }
+
+    private static void printDateTime(LocalDateTime ldt, StringBuilder buf) {
+        printDate(ldt.toLocalDate(), buf);
+        buf.append('T');
+        printTime(ldt.getHour(), ldt.getMinute(), ldt.getSecond(), buf);
+        int nano = ldt.getNano();
+        if (nano != 0) {
+            // as many digits as required
+            buf.append('.');
+            int div = 100000000;
+            while (nano > 0) {
+                buf.append((char) ('0' + nano / div));
+                nano = nano % div;
+                div = div / 10;
+            }
+        }
+    }
+
+    private static void printTime(int hour, int minute, int second, StringBuilder buf) {
+        printDigits(hour, 10, buf);
+        buf.append(':');
+        printDigits(minute, 10, buf);
+        buf.append(':');
+        printDigits(second, 10, buf);
+    }
+
+    private static void printDigits(int value, int div, StringBuilder buf) {
+        for (; div > 0; div = div / 10) {
+            buf.append((char) ('0' + (value / div) % 10));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses a date with a four digit year at the start of the text.
+     *
+     * @param text  the text to parse, at least the length of a date, not null
+     * @return the date, null if not of the common form or invalid
+     */
+    private static LocalDate parseDate(CharSequence text) {
+        int year1 = parse2(text, 0);
+        int year2 = parse2(text, 2);
+        int month = parse2(text, 5);
+        int day = parse2(text, 8);
+        if (year1 < 0 || year2 < 0 || month < 1 || month > 12 || day < 1 ||
+                text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int year = year1 * 100 + year2;
+        if (day > 28 && day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Parses a date-time of the text up to the specified end.
+     * <p>
+     * The time consists of hour and minute, optionally followed by the second,
+     * optionally followed by one to nine digits of fraction.
+     *
+     * @param text  the text to parse, not null
+     * @param end  the end of the date-time
+     * @return the date-time, null if not of the common form or invalid
+     */
+    private static LocalDateTime parseDateTime(CharSequence text, int end) {
+        int pos = DATE_LENGTH;
+        if (end < pos + 6) {
+            return null;
+        }
+        char sep = text.charAt(pos);
+        if (sep != 'T' && sep != 't') {
+            return null;
+        }
+        int hour = parse2(text, pos + 1);
+        int minute = parse2(text, pos + 4);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || text.charAt(pos + 3) != ':') {
+            return null;
+        }
+        pos += 6;
+        int second = 0;
+        int nano = 0;
+        if (pos < end) {
+            if (end < pos + 3 || text.charAt(pos) != ':') {
+                return null;
+            }
+            second = parse2(text, pos + 1);
+            if (second < 0 || second > 59) {
+                return null;
+            }
+            pos += 3;
+            if (pos < end) {
+                int digits = end - pos - 1;
+                if (digits < 1 || digits > 9 || text.charAt(pos) != '.') {
+                    return null;
+                }
+                for (pos++; pos < end; pos++) {
+                    int digit = text.charAt(pos) - '0';
+                    if (digit < 0 || digit > 9) {
+                        return null;
+                    }
+                    nano = nano * 10 + digit;
+                }
+                for (; digits < 9; digits++) {
+                    nano *= 10;
+                }
+            }
+        }
+        LocalDate date = parseDate(text);
+        if (date == null) {
+            return null;
+        }
+        return LocalDateTime.of(date, LocalTime.of(hour, minute, second, nano));
+    }
+
+    /**
+     * Parses two ASCII digits.
+     *
+     * @param text  the text to parse, not null
+     * @param pos  the position of the first digit, the text must have two characters from here
+     * @return the value, negative if not two digits
+     */
+    private static int parse2(CharSequence text, int pos) {
+        int digit1 = text.charAt(pos) - '0';
+        int digit2 = text.charAt(pos + 1) - '0';
+        if (digit1 < 0 || digit1 > 9 || digit2 < 0 || digit2 > 9) {
+            return -1;
+        }
+        return digit1 * 10 + digit2;
+    }
+
+}
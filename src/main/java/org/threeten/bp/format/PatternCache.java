@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of formatters created from patterns, evicting approximately the least recently used.
+ * <p>
+ * The cache is keyed by pattern and locale.
+ * Lookups do not lock, each hit recording the value of a shared access counter
+ * against the entry. When an addition takes the cache over its maximum size,
+ * the entry with the oldest recorded access is evicted. As concurrent hits may
+ * record their access after the eviction scan has passed them, the entry evicted
+ * is only approximately the least recently used.
+ * <p>
+ * Concurrent misses for the same key may both create a formatter, but only the
+ * first to be added is returned. Patterns that are invalid are not cached.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is thread-safe.
+ */
+final class PatternCache {
+
+    /**
+     * The shared cache used by {@link DateTimeFormatter#ofPattern}, null if disabled.
+     */
+    static final PatternCache INSTANCE = create(readMaxSize());
+
+    /**
+     * The maximum number of formatters.
+     */
+    private final int maxSize;
+    /**
+     * The cached formatters.
+     */
+    private final ConcurrentMap<Entry<String, Locale>, CachedFormatter> formatters;
+    /**
+     * The number of requests, also used to order accesses.
+     */
+    private final AtomicLong requests = new AtomicLong();
+    /**
+     * The number of requests not found in the cache.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Reads the maximum size of the shared cache.
+     *
+     * @return the maximum size, zero if disabled
+     */
+    private static int readMaxSize() {
+        try {
+            Integer size = Integer.getInteger("org.threeten.bp.format.DateTimeFormatter.patternCacheSize");
+            if (size != null) {
+                return Math.max(0, size);
+            }
+        } catch (SecurityException ex) {
+            // use the default
+        }
+        return 0;
+    }
+
+    private static PatternCache create(int maxSize) {
+        return (maxSize > 0 ? new PatternCache(maxSize) : null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize  the maximum number of formatters, positive
+     */
+    PatternCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.formatters = new ConcurrentHashMap<Entry<String, Locale>, CachedFormatter>(16, 0.75f, 2);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the formatter for the pattern and locale, creating it if necessary.
+     *
+     * @param pattern  the pattern to use, not null
+     * @param locale  the locale to use, not null
+     * @return the formatter based on the pattern, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    DateTimeFormatter get(String pattern, Locale locale) {
+        Entry<String, Locale> key = new SimpleImmutableEntry<String, Locale>(pattern, locale);
+        long access = requests.incrementAndGet();
+        CachedFormatter cached = formatters.get(key);
+        if (cached != null) {
+            cached.lastAccess = access;
+            return cached.formatter;
+        }
+        misses.incrementAndGet();
+        DateTimeFormatter created = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+        cached = formatters.putIfAbsent(key, new CachedFormatter(created, access));
+        if (cached != null) {
+            cached.lastAccess = access;
+            return cached.formatter;
+        }
+        while (formatters.size() > maxSize) {
+            evictOldest();
+        }
+        return created;
+    }
+
+    /**
+     * Evicts the entry with the oldest recorded access.
+     */
+    private void evictOldest() {
+        Entry<Entry<String, Locale>, CachedFormatter> oldest = null;
+        for (Entry<Entry<String, Locale>, CachedFormatter> entry : formatters.entrySet()) {
+            if (oldest == null || entry.getValue().lastAccess < oldest.getValue().lastAccess) {
+                oldest = entry;
+            }
+        }
+        if (oldest != null) {
+            formatters.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    /**
+     * Gets the maximum number of formatters.
+     *
+     * @return the maximum size
+     */
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of formatters in the cache.
+     *
+     * @return the size
+     */
+    int size() {
+        return formatters.size();
+    }
+
+    /**
+     * Gets the number of requests found in the cache.
+     *
+     * @return the hit count
+     */
+    long getHitCount() {
+        return requests.get() - misses.get();
+    }
+
+    /**
+     * Gets the number of requests not found in the cache.
+     *
+     * @return the miss count
+     */
+    long getMissCount() {
+        return misses.get();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A cached formatter with the time of its last access.
+     */
+    private static final class CachedFormatter {
+        /** The formatter. */
+        private final DateTimeFormatter formatter;
+        /** The request count when last accessed, updated without synchronization. */
+        private volatile long lastAccess;
+
+        private CachedFormatter(DateTimeFormatter formatter, long lastAccess) {
+            this.formatter = formatter;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+}
@@ -52,6 +52,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import org.threeten.bp.format.DateTimeFormatterBuilder.PrefixTree;
 import org.threeten.bp.temporal.IsoFields;
 import org.threeten.bp.temporal.TemporalField;
 
@@ -77,6 +78,9 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
     /** Cache. */
     private final ConcurrentMap<Entry<TemporalField, Locale>, Object> cache =
             new ConcurrentHashMap<Entry<TemporalField, Locale>, Object>(16, 0.75f, 2);
+    /** Cache of zone names by locale and zone ID, indexed by daylight and style. */
+    private final ConcurrentMap<Locale, ConcurrentMap<String, String[]>> zoneTextCache =
+            new ConcurrentHashMap<Locale, ConcurrentMap<String, String[]>>(16, 0.75f, 2);
 
     //-----------------------------------------------------------------------
     @Override
@@ -97,6 +101,37 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return null;
     }
 
+    @Override
+    PrefixTree<Long> getTextTree(TemporalField field, TextStyle style, Locale locale, boolean caseSensitive) {
+        Object store = findStore(field, locale);
+        if (store instanceof LocaleStore) {
+            return ((LocaleStore) store).getTextTree(style, caseSensitive);
+        }
+        return null;
+    }
+
+    @Override
+    public String getZoneText(String zoneId, boolean daylight, TextStyle style, Locale locale) {
+        ConcurrentMap<String, String[]> localeCache = zoneTextCache.get(locale);
+        if (localeCache == null) {
+            zoneTextCache.putIfAbsent(locale, new ConcurrentHashMap<String, String[]>(64, 0.75f, 2));
+            localeCache = zoneTextCache.get(locale);
+        }
+        String[] names = localeCache.get(zoneId);
+        if (names == null) {
+            localeCache.putIfAbsent(zoneId, new String[4]);
+            names = localeCache.get(zoneId);
+        }
+        int index = (daylight ? 2 : 0) + (style.asNormal() == TextStyle.FULL ? 1 : 0);
+        String name = names[index];
+        if (name == null) {
+            // racy single-check is safe as strings are immutable
+            name = super.getZoneText(zoneId, daylight, style, locale);
+            names[index] = name;
+        }
+        return name;
+    }
+
     //-----------------------------------------------------------------------
     private Object findStore(TemporalField field, Locale locale) {
         Entry<TemporalField, Locale> key = createEntry(field, locale);
@@ -415,6 +450,11 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * Parsable data.
          */
         private final Map<TextStyle, List<Entry<String, Long>>> parsable;
+        /**
+         * Parsable data compiled to prefix trees, indexed by style and case sensitivity.
+         */
+        @SuppressWarnings("unchecked")
+        private final PrefixTree<Long>[] parsableTrees = new PrefixTree[(TextStyle.values().length + 1) * 2];
 
         //-----------------------------------------------------------------------
         /**
@@ -470,6 +510,31 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             List<Entry<String, Long>> list = parsable.get(style);
             return list != null ? list.iterator() : null;
         }
+
+        /**
+         * Gets a prefix tree of text to field for the specified style for the purpose of parsing.
+         * <p>
+         * The tree is built from the parsable text in order from longest to shortest,
+         * thus matches the same text as a search of the iterator.
+         *
+         * @param style  the style to get text for, null for all parsable text
+         * @param caseSensitive  whether the tree matches case sensitively
+         * @return the tree of text to field value, null if the style is not parsable
+         */
+        PrefixTree<Long> getTextTree(TextStyle style, boolean caseSensitive) {
+            int index = (style != null ? style.ordinal() + 1 : 0) * 2 + (caseSensitive ? 1 : 0);
+            PrefixTree<Long> tree = parsableTrees[index];
+            if (tree == null) {
+                List<Entry<String, Long>> list = parsable.get(style);
+                if (list == null) {
+                    return null;
+                }
+                // racy single-check is safe as the tree is immutable
+                tree = PrefixTree.build(list, caseSensitive);
+                parsableTrees[index] = tree;
+            }
+            return tree;
+        }
     }
 
 }
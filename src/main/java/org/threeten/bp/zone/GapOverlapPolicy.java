@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import org.threeten.bp.DateTimeException;
+
+/**
+ * Enumeration of different ways to convert a local date-time in a gap or overlap to an instant.
+ * <p>
+ * Most local date-times have a single valid offset in a time-zone.
+ * At a gap there is no valid offset, and at an overlap there are two.
+ * In both cases there are two candidate instants, one using the offset
+ * before the transition and one using the offset after.
+ * This policy is used to choose between them.
+ *
+ * <h3>Specification for implementors</h3>
+ * This is an immutable and thread-safe enum.
+ */
+public enum GapOverlapPolicy {
+
+    /**
+     * Policy to choose the earlier of the two candidate instants.
+     * <p>
+     * In an overlap, this uses the offset before the transition.
+     * In a gap, this uses the offset after the transition, which results
+     * in an instant before the transition.
+     */
+    EARLIER,
+    /**
+     * Policy to choose the later of the two candidate instants.
+     * <p>
+     * In an overlap, this uses the offset after the transition.
+     * In a gap, this uses the offset before the transition, which results
+     * in an instant after the transition.
+     */
+    LATER,
+    /**
+     * Policy to match {@code ZonedDateTime.ofLocal} without a preferred offset.
+     * <p>
+     * In an overlap, this uses the offset before the transition.
+     * In a gap, the local date-time is shifted later by the length of the gap,
+     * which is the same instant as using the offset before the transition.
+     */
+    SHIFT,
+    /**
+     * Policy to reject local date-times in a gap or overlap.
+     * <p>
+     * A {@code DateTimeException} is thrown instead of choosing an instant.
+     */
+    REJECT;
+
+    /**
+     * Resolves a local epoch-second in a gap or overlap to an epoch-second.
+     *
+     * @param localSecond  the local epoch-second, within the gap or overlap of the transition
+     * @param trans  the transition, not null
+     * @return the epoch-second
+     * @throws DateTimeException if the policy rejects the local epoch-second
+     */
+    long resolve(long localSecond, ZoneOffsetTransition trans) {
+        long beforeSecond = localSecond - trans.getOffsetBefore().getTotalSeconds();
+        long afterSecond = localSecond - trans.getOffsetAfter().getTotalSeconds();
+        switch (this) {
+            case EARLIER:
+                return Math.min(beforeSecond, afterSecond);
+            case LATER:
+                return Math.max(beforeSecond, afterSecond);
+            case SHIFT:
+                return beforeSecond;
+            default:
+                throw new DateTimeException("Local epoch-second " + localSecond + " is in a " +
+                        (trans.isGap() ? "gap" : "overlap") + " of the transition " + trans);
+        }
+    }
+
+}
@@ -32,15 +32,18 @@
 package org.threeten.bp.zone;
 
 import java.io.DataInput;
+import java.io.DataInputStream;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
@@ -65,9 +68,40 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      */
     private static final long serialVersionUID = 3044319355680032515L;
     /**
-     * The last year to have its transitions cached.
+     * The number of years, starting from the year of the last historic transition,
+     * to have their transitions cached in an array.
+     * This can be configured using the system property
+     * {@code org.threeten.bp.zone.StandardZoneRules.cachedYears}.
      */
-    private static final int LAST_CACHED_YEAR = 2100;
+    private static final int CACHED_YEARS = readCachedYears();
+    /**
+     * The maximum number of years outside the array to have their transitions cached.
+     */
+    private static final int OVERFLOW_CACHED_YEARS = 32;
+    /**
+     * The shift converting an epoch second offset to an index bucket, approximately 12 days.
+     */
+    private static final int INDEX_BUCKET_SHIFT = 20;
+    /**
+     * The number of seconds in an index bucket.
+     */
+    private static final long INDEX_BUCKET_SECONDS = 1L << INDEX_BUCKET_SHIFT;
+    /**
+     * The mask of the position of the transition in an index entry.
+     */
+    private static final int INDEX_POSITION_MASK = (1 << (INDEX_BUCKET_SHIFT + 1)) - 1;
+    /**
+     * The maximum number of offsets that can be referenced from the index.
+     */
+    private static final int INDEX_MAX_OFFSETS = 32;
+    /**
+     * The number of seconds per day.
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+    /**
+     * The maximum number of years covered by the local transition index.
+     */
+    private static final int MAX_LOCAL_INDEX_YEARS = 1000;
 
     /**
      * The transitions between standard offsets (epoch seconds), sorted.
@@ -82,11 +116,26 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      */
     private final long[] savingsInstantTransitions;
     /**
-     * The transitions between local date-times, sorted.
+     * The transitions between instants, matching the instant transitions.
+     * These are shared, avoiding the need to create transitions during queries.
+     */
+    private final ZoneOffsetTransition[] savingsTransitions;
+    /**
+     * The transitions between local date-times (local epoch seconds), sorted.
      * This is a paired array, where the first entry is the start of the transition
      * and the second entry is the end of the transition.
      */
-    private final LocalDateTime[] savingsLocalTransitions;
+    private final long[] savingsLocalTransitions;
+    /**
+     * The year of the first local transition.
+     */
+    private final int localIndexYear;
+    /**
+     * The local transition index by year, null if not indexed.
+     * Each entry is the number of local transitions before the start of the year,
+     * allowing a lookup to scan only the few transitions within the year.
+     */
+    private final int[] localIndex;
     /**
      * The wall offsets.
      */
@@ -96,10 +145,25 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      */
     private final ZoneOffsetTransitionRule[] lastRules;
     /**
-     * The map of recent transitions.
+     * The cache of transitions created from the last rules, null if there are no last rules.
+     */
+    private final TransitionCache lastRulesCache;
+    /**
+     * The epoch second of the start of the instant index.
+     */
+    private final long offsetIndexStart;
+    /**
+     * The instant index, null if not indexed.
+     * Each entry describes one bucket, holding the position of the transition within
+     * the bucket in the low bits, followed by the indices of the offsets before
+     * and after the transition. An entry of -1 means that the bucket has more than
+     * one transition and must be looked up as normal.
+     */
+    private final int[] offsetIndex;
+    /**
+     * The offsets referenced by the instant index, null if not indexed.
      */
-    private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache =
-                new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
+    private final ZoneOffset[] offsetIndexOffsets;
 
     /**
      * Creates an instance.
@@ -128,20 +192,15 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         }
 
         // convert savings transitions to locals
-        List<LocalDateTime> localTransitionList = new ArrayList<LocalDateTime>();
         List<ZoneOffset> localTransitionOffsetList = new ArrayList<ZoneOffset>();
         localTransitionOffsetList.add(baseWallOffset);
         for (ZoneOffsetTransition trans : transitionList) {
-            if (trans.isGap()) {
-                localTransitionList.add(trans.getDateTimeBefore());
-                localTransitionList.add(trans.getDateTimeAfter());
-            } else {
-                localTransitionList.add(trans.getDateTimeAfter());
-                localTransitionList.add(trans.getDateTimeBefore());
-            }
             localTransitionOffsetList.add(trans.getOffsetAfter());
         }
-        this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+        this.savingsTransitions = transitionList.toArray(new ZoneOffsetTransition[transitionList.size()]);
+        this.savingsLocalTransitions = toLocalTransitions(savingsTransitions);
+        this.localIndexYear = findLocalIndexYear(savingsLocalTransitions);
+        this.localIndex = createLocalIndex(savingsLocalTransitions, localIndexYear);
         this.wallOffsets = localTransitionOffsetList.toArray(new ZoneOffset[localTransitionOffsetList.size()]);
 
         // convert savings transitions to instants
@@ -155,6 +214,10 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
             throw new IllegalArgumentException("Too many transition rules");
         }
         this.lastRules = lastRules.toArray(new ZoneOffsetTransitionRule[lastRules.size()]);
+        this.lastRulesCache = createTransitionCache(this.lastRules, savingsInstantTransitions, wallOffsets);
+        this.offsetIndexStart = 0;
+        this.offsetIndex = null;
+        this.offsetIndexOffsets = null;
     }
 
     /**
@@ -181,20 +244,149 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         this.lastRules = lastRules;
 
         // convert savings transitions to locals
-        List<LocalDateTime> localTransitionList = new ArrayList<LocalDateTime>();
+        this.savingsTransitions = new ZoneOffsetTransition[savingsInstantTransitions.length];
         for (int i = 0; i < savingsInstantTransitions.length; i++) {
             ZoneOffset before = wallOffsets[i];
             ZoneOffset after = wallOffsets[i + 1];
-            ZoneOffsetTransition trans = new ZoneOffsetTransition(savingsInstantTransitions[i], before, after);
+            savingsTransitions[i] = new ZoneOffsetTransition(savingsInstantTransitions[i], before, after);
+        }
+        this.savingsLocalTransitions = toLocalTransitions(savingsTransitions);
+        this.localIndexYear = findLocalIndexYear(savingsLocalTransitions);
+        this.localIndex = createLocalIndex(savingsLocalTransitions, localIndexYear);
+        this.lastRulesCache = createTransitionCache(lastRules, savingsInstantTransitions, wallOffsets);
+        this.offsetIndexStart = 0;
+        this.offsetIndex = null;
+        this.offsetIndexOffsets = null;
+    }
+
+    /**
+     * Constructor creating a copy of the rules with an instant index.
+     *
+     * @param rules  the rules to copy, not null
+     * @param indexStart  the epoch second of the start of the index
+     * @param offsetIndex  the instant index, not null
+     * @param offsetIndexOffsets  the offsets referenced by the index, not null
+     */
+    private StandardZoneRules(
+            StandardZoneRules rules,
+            long indexStart,
+            int[] offsetIndex,
+            ZoneOffset[] offsetIndexOffsets) {
+        super();
+
+        this.standardTransitions = rules.standardTransitions;
+        this.standardOffsets = rules.standardOffsets;
+        this.savingsInstantTransitions = rules.savingsInstantTransitions;
+        this.savingsTransitions = rules.savingsTransitions;
+        this.savingsLocalTransitions = rules.savingsLocalTransitions;
+        this.localIndexYear = rules.localIndexYear;
+        this.localIndex = rules.localIndex;
+        this.wallOffsets = rules.wallOffsets;
+        this.lastRules = rules.lastRules;
+        this.lastRulesCache = rules.lastRulesCache;
+        this.offsetIndexStart = indexStart;
+        this.offsetIndex = offsetIndex;
+        this.offsetIndexOffsets = offsetIndexOffsets;
+    }
+
+    /**
+     * Reads the number of years to cache in an array.
+     *
+     * @return the number of years, from zero to 10000
+     */
+    private static int readCachedYears() {
+        try {
+            Integer years = Integer.getInteger("org.threeten.bp.zone.StandardZoneRules.cachedYears");
+            if (years != null) {
+                return Math.max(0, Math.min(years, 10000));
+            }
+        } catch (SecurityException ex) {
+            // use the default
+        }
+        return 150;
+    }
+
+    /**
+     * Creates the cache of transitions created from the last rules.
+     *
+     * @param lastRules  the last rules, not null
+     * @param savingsInstantTransitions  the instant transitions, not null
+     * @param wallOffsets  the wall offsets, not null
+     * @return the cache, null if there are no last rules
+     */
+    private static TransitionCache createTransitionCache(
+            ZoneOffsetTransitionRule[] lastRules,
+            long[] savingsInstantTransitions,
+            ZoneOffset[] wallOffsets) {
+        if (lastRules.length == 0) {
+            return null;
+        }
+        int baseYear = 1970;
+        if (savingsInstantTransitions.length > 0) {
+            baseYear = findYear(savingsInstantTransitions[savingsInstantTransitions.length - 1], wallOffsets[wallOffsets.length - 1]);
+        }
+        return new TransitionCache(baseYear, CACHED_YEARS);
+    }
+
+    /**
+     * Converts the transitions to the paired array of local epoch seconds.
+     *
+     * @param transitions  the transitions, not null
+     * @return the local transitions, not null
+     */
+    private static long[] toLocalTransitions(ZoneOffsetTransition[] transitions) {
+        long[] localTransitions = new long[transitions.length * 2];
+        for (int i = 0; i < transitions.length; i++) {
+            ZoneOffsetTransition trans = transitions[i];
+            long epochSec = trans.toEpochSecond();
+            long localBefore = epochSec + trans.getOffsetBefore().getTotalSeconds();
+            long localAfter = epochSec + trans.getOffsetAfter().getTotalSeconds();
             if (trans.isGap()) {
-                localTransitionList.add(trans.getDateTimeBefore());
-                localTransitionList.add(trans.getDateTimeAfter());
+                localTransitions[i * 2] = localBefore;
+                localTransitions[i * 2 + 1] = localAfter;
             } else {
-                localTransitionList.add(trans.getDateTimeAfter());
-                localTransitionList.add(trans.getDateTimeBefore());
+                localTransitions[i * 2] = localAfter;
+                localTransitions[i * 2 + 1] = localBefore;
             }
         }
-        this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+        return localTransitions;
+    }
+
+    /**
+     * Finds the year of the first local transition.
+     *
+     * @param localTransitions  the local transitions, not null
+     * @return the year of the first transition, zero if none
+     */
+    private static int findLocalIndexYear(long[] localTransitions) {
+        return (localTransitions.length > 0 ? findYear(localTransitions[0], ZoneOffset.UTC) : 0);
+    }
+
+    /**
+     * Creates the index of local transitions by year.
+     *
+     * @param localTransitions  the local transitions, not null
+     * @param firstYear  the year of the first transition
+     * @return the index, null if there are no transitions or they span too many years
+     */
+    private static int[] createLocalIndex(long[] localTransitions, int firstYear) {
+        if (localTransitions.length == 0) {
+            return null;
+        }
+        int lastYear = findYear(localTransitions[localTransitions.length - 1], ZoneOffset.UTC);
+        if (lastYear - firstYear >= MAX_LOCAL_INDEX_YEARS) {
+            return null;
+        }
+        int[] index = new int[lastYear - firstYear + 1];
+        int count = 0;
+        for (int i = 0; i < index.length; i++) {
+            long yearStart = LocalDate.of(firstYear + i, 1, 1).toEpochDay() * SECONDS_PER_DAY;
+            while (count < localTransitions.length && localTransitions[count] < yearStart) {
+                count++;
+            }
+            index[i] = count;
+        }
+        return index;
     }
 
     //-----------------------------------------------------------------------
@@ -268,17 +460,149 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
     }
 
+    /**
+     * Writes the state to the stream using fixed-width arrays.
+     * <p>
+     * Unlike {@link #writeExternal(DataOutput)}, the transitions and offsets are
+     * not compressed, allowing them to be read in bulk from a buffer.
+     *
+     * @param out  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    void writeFixedWidth(DataOutput out) throws IOException {
+        out.writeInt(standardTransitions.length);
+        for (long trans : standardTransitions) {
+            out.writeLong(trans);
+        }
+        for (ZoneOffset offset : standardOffsets) {
+            out.writeInt(offset.getTotalSeconds());
+        }
+        out.writeInt(savingsInstantTransitions.length);
+        for (long trans : savingsInstantTransitions) {
+            out.writeLong(trans);
+        }
+        for (ZoneOffset offset : wallOffsets) {
+            out.writeInt(offset.getTotalSeconds());
+        }
+        out.writeByte(lastRules.length);
+        for (ZoneOffsetTransitionRule rule : lastRules) {
+            rule.writeExternal(out);
+        }
+    }
+
+    /**
+     * Reads the state written using fixed-width arrays from the buffer.
+     *
+     * @param buf  the buffer positioned at the start of the state, not null
+     * @return the created object, not null
+     * @throws IOException if an error occurs
+     */
+    static StandardZoneRules readFixedWidth(ByteBuffer buf) throws IOException {
+        long[] stdTrans = readFixedWidthTransitions(buf, buf.getInt());
+        ZoneOffset[] stdOffsets = readFixedWidthOffsets(buf, stdTrans.length + 1);
+        long[] savTrans = readFixedWidthTransitions(buf, buf.getInt());
+        ZoneOffset[] savOffsets = readFixedWidthOffsets(buf, savTrans.length + 1);
+        int ruleSize = buf.get();
+        ZoneOffsetTransitionRule[] rules = new ZoneOffsetTransitionRule[ruleSize];
+        if (ruleSize > 0) {
+            DataInput in = new DataInputStream(new ByteBufferInputStream(buf));
+            for (int i = 0; i < ruleSize; i++) {
+                rules[i] = ZoneOffsetTransitionRule.readExternal(in);
+            }
+        }
+        return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
+    }
+
+    private static long[] readFixedWidthTransitions(ByteBuffer buf, int size) {
+        long[] transitions = new long[size];
+        buf.asLongBuffer().get(transitions);
+        buf.position(buf.position() + size * 8);
+        return transitions;
+    }
+
+    private static ZoneOffset[] readFixedWidthOffsets(ByteBuffer buf, int size) {
+        ZoneOffset[] offsets = new ZoneOffset[size];
+        for (int i = 0; i < size; i++) {
+            offsets[i] = ZoneOffset.ofTotalSeconds(buf.getInt());
+        }
+        return offsets;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isFixedOffset() {
         return savingsInstantTransitions.length == 0 && lastRules.length == 0 && wallOffsets[0].equals(standardOffsets[0]);
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    ZoneRules createOffsetIndex(int startYear, int endYear) {
+        if (savingsInstantTransitions.length == 0) {
+            return this;
+        }
+        long indexStart = LocalDate.of(startYear, 1, 1).toEpochDay() * 86400;
+        long indexEnd = (LocalDate.of(endYear, 12, 31).toEpochDay() + 1) * 86400;
+        int[] index = new int[(int) ((indexEnd - indexStart + INDEX_BUCKET_SECONDS - 1) >> INDEX_BUCKET_SHIFT)];
+        List<ZoneOffset> offsets = new ArrayList<ZoneOffset>();
+        for (int i = 0; i < index.length; i++) {
+            long bucketStart = indexStart + (((long) i) << INDEX_BUCKET_SHIFT);
+            long bucketEnd = bucketStart + INDEX_BUCKET_SECONDS;
+            Instant bucketInstant = Instant.ofEpochSecond(bucketStart);
+            ZoneOffset before = getOffset(bucketInstant);
+            ZoneOffset after = before;
+            long position = INDEX_BUCKET_SECONDS;
+            ZoneOffsetTransition trans = nextTransition(bucketInstant);
+            if (trans != null && trans.toEpochSecond() < bucketEnd) {
+                ZoneOffsetTransition nextTrans = nextTransition(trans.getInstant());
+                if (nextTrans != null && nextTrans.toEpochSecond() < bucketEnd) {
+                    index[i] = -1;
+                    continue;
+                }
+                after = trans.getOffsetAfter();
+                position = trans.toEpochSecond() - bucketStart;
+            }
+            int beforeIndex = findOrAdd(offsets, before);
+            int afterIndex = findOrAdd(offsets, after);
+            if (offsets.size() > INDEX_MAX_OFFSETS) {
+                return this;
+            }
+            index[i] = (int) position |
+                    (beforeIndex << (INDEX_BUCKET_SHIFT + 1)) |
+                    (afterIndex << (INDEX_BUCKET_SHIFT + 6));
+        }
+        ZoneOffset[] indexOffsets = offsets.toArray(new ZoneOffset[offsets.size()]);
+        return new StandardZoneRules(this, indexStart, index, indexOffsets);
+    }
+
+    /**
+     * Finds the index of the offset in the list, adding it if absent.
+     *
+     * @param offsets  the list of offsets, not null
+     * @param offset  the offset to find, not null
+     * @return the index of the offset
+     */
+    private static int findOrAdd(List<ZoneOffset> offsets, ZoneOffset offset) {
+        int index = offsets.indexOf(offset);
+        if (index < 0) {
+            offsets.add(offset);
+            index = offsets.size() - 1;
+        }
+        return index;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffset getOffset(Instant instant) {
         long epochSec = instant.getEpochSecond();
 
+        // check if using the instant index
+        if (offsetIndex != null) {
+            ZoneOffset indexed = findIndexedOffset(epochSec);
+            if (indexed != null) {
+                return indexed;
+            }
+        }
+
         // check if using last rules
         if (lastRules.length > 0 && (savingsInstantTransitions.length == 0 ||
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1])) {
@@ -303,6 +627,93 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return wallOffsets[index + 1];
     }
 
+    /**
+     * Finds the offset from the instant index.
+     *
+     * @param epochSec  the epoch-second to find the offset for
+     * @return the offset, null if not covered by a bucket with a single transition
+     */
+    private ZoneOffset findIndexedOffset(long epochSec) {
+        long indexSec = epochSec - offsetIndexStart;
+        long bucket = indexSec >> INDEX_BUCKET_SHIFT;
+        if (bucket >= 0 && bucket < offsetIndex.length) {
+            int entry = offsetIndex[(int) bucket];
+            if (entry >= 0) {
+                long position = indexSec & (INDEX_BUCKET_SECONDS - 1);
+                int shift = (position < (entry & INDEX_POSITION_MASK) ? INDEX_BUCKET_SHIFT + 1 : INDEX_BUCKET_SHIFT + 6);
+                return offsetIndexOffsets[(entry >>> shift) & (INDEX_MAX_OFFSETS - 1)];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    void findOffsets(long[] epochSeconds, int fromIndex, int toIndex, int[] offsetSeconds) {
+        long[] transitions = savingsInstantTransitions;
+        int lastTransition = transitions.length - 1;
+        boolean useLastRules = lastRules.length > 0;
+        ZoneOffset lastOffset = wallOffsets[wallOffsets.length - 1];
+        // the historic interval, transitions[index] <= epochSec < transitions[index + 1]
+        int index = -1;
+        long intervalStart = Long.MAX_VALUE;
+        long intervalEnd = Long.MIN_VALUE;
+        // the last rules year, yearStart <= epochSec < yearEnd
+        long yearStart = Long.MAX_VALUE;
+        long yearEnd = Long.MIN_VALUE;
+        long[] yearTransitions = null;
+        int[] yearOffsets = null;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long epochSec = epochSeconds[i];
+            checkEpochSecond(epochSec);
+            if (offsetIndex != null) {
+                ZoneOffset indexed = findIndexedOffset(epochSec);
+                if (indexed != null) {
+                    offsetSeconds[i] = indexed.getTotalSeconds();
+                    continue;
+                }
+            }
+
+            // last rules, reusing the transitions of the previous year where possible
+            if (useLastRules && (lastTransition < 0 || epochSec > transitions[lastTransition])) {
+                if (epochSec < yearStart || epochSec >= yearEnd) {
+                    int year = findYear(epochSec, lastOffset);
+                    ZoneOffsetTransition[] transArray = findTransitionArray(year);
+                    yearTransitions = new long[transArray.length];
+                    yearOffsets = new int[transArray.length + 1];
+                    for (int j = 0; j < transArray.length; j++) {
+                        yearTransitions[j] = transArray[j].toEpochSecond();
+                        yearOffsets[j] = transArray[j].getOffsetBefore().getTotalSeconds();
+                    }
+                    yearOffsets[transArray.length] = transArray[transArray.length - 1].getOffsetAfter().getTotalSeconds();
+                    yearStart = LocalDate.of(year, 1, 1).toEpochDay() * SECONDS_PER_DAY - lastOffset.getTotalSeconds();
+                    yearEnd = yearStart + (Year.isLeap(year) ? 366 : 365) * SECONDS_PER_DAY;
+                }
+                int j = 0;
+                while (j < yearTransitions.length && epochSec >= yearTransitions[j]) {
+                    j++;
+                }
+                offsetSeconds[i] = yearOffsets[j];
+                continue;
+            }
+
+            // historic rules, stepping forward to the next interval before searching
+            if (epochSec < intervalStart || epochSec >= intervalEnd) {
+                if (epochSec >= intervalEnd && intervalEnd != Long.MIN_VALUE &&
+                        (index + 2 > lastTransition || epochSec < transitions[index + 2])) {
+                    index++;
+                } else {
+                    index = Arrays.binarySearch(transitions, epochSec);
+                    if (index < 0) {
+                        index = -index - 2;
+                    }
+                }
+                intervalStart = (index >= 0 ? transitions[index] : Long.MIN_VALUE);
+                intervalEnd = (index < lastTransition ? transitions[index + 1] : Long.MAX_VALUE);
+            }
+            offsetSeconds[i] = wallOffsets[index + 1].getTotalSeconds();
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffset getOffset(LocalDateTime localDateTime) {
@@ -330,13 +741,18 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     }
 
     private Object getOffsetInfo(LocalDateTime dt) {
+        // the local transitions have no nanosecond part, thus comparing
+        // the local epoch second is sufficient to find the matching range
+        long localSecond = dt.toEpochSecond(ZoneOffset.UTC);
+
         // check if using last rules
         if (lastRules.length > 0 && (savingsLocalTransitions.length == 0 ||
-                dt.isAfter(savingsLocalTransitions[savingsLocalTransitions.length - 1]))) {
+                localSecond > savingsLocalTransitions[savingsLocalTransitions.length - 1] ||
+                (localSecond == savingsLocalTransitions[savingsLocalTransitions.length - 1] && dt.getNano() > 0))) {
             ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
             Object info = null;
             for (ZoneOffsetTransition trans : transArray) {
-                info = findOffsetInfo(dt, trans);
+                info = findOffsetInfo(localSecond, trans);
                 if (info instanceof ZoneOffsetTransition || info.equals(trans.getOffsetBefore())) {
                     return info;
                 }
@@ -345,61 +761,136 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         }
 
         // using historic rules
-        int index  = Arrays.binarySearch(savingsLocalTransitions, dt);
+        int index;
+        int yearOffset = dt.getYear() - localIndexYear;
+        if (localIndex != null && yearOffset >= 0 && yearOffset < localIndex.length) {
+            // scan the transitions within the year, finding the last one not after the local second
+            int end = localIndex[yearOffset];
+            while (end < savingsLocalTransitions.length && savingsLocalTransitions[end] <= localSecond) {
+                end++;
+            }
+            index = end - 1;
+        } else {
+            index = Arrays.binarySearch(savingsLocalTransitions, localSecond);
+            if (index < -1) {
+                // switch negative insert position to start of matched range
+                index = -index - 2;
+            } else if (index >= 0 && index < savingsLocalTransitions.length - 1 &&
+                    savingsLocalTransitions[index] == savingsLocalTransitions[index + 1]) {
+                // handle overlap immediately following gap
+                index++;
+            }
+        }
         if (index == -1) {
             // before first transition
             return wallOffsets[0];
         }
-        if (index < 0) {
-            // switch negative insert position to start of matched range
-            index = -index - 2;
-        } else if (index < savingsLocalTransitions.length - 1 &&
-                savingsLocalTransitions[index].equals(savingsLocalTransitions[index + 1])) {
-            // handle overlap immediately following gap
-            index++;
-        }
         if ((index & 1) == 0) {
             // gap or overlap
-            LocalDateTime dtBefore = savingsLocalTransitions[index];
-            LocalDateTime dtAfter = savingsLocalTransitions[index + 1];
-            ZoneOffset offsetBefore = wallOffsets[index / 2];
-            ZoneOffset offsetAfter = wallOffsets[index / 2 + 1];
-            if (offsetAfter.getTotalSeconds() > offsetBefore.getTotalSeconds()) {
-                // gap
-                return new ZoneOffsetTransition(dtBefore, offsetBefore, offsetAfter);
-            } else {
-                // overlap
-                return new ZoneOffsetTransition(dtAfter, offsetBefore, offsetAfter);
-            }
+            return savingsTransitions[index / 2];
         } else {
             // normal (neither gap or overlap)
             return wallOffsets[index / 2 + 1];
         }
     }
 
+    @Override
+    void convertLocalSeconds(long[] localSeconds, int fromIndex, int toIndex, GapOverlapPolicy policy) {
+        long[] transitions = savingsLocalTransitions;
+        int lastTransition = transitions.length - 1;
+        boolean useLastRules = lastRules.length > 0;
+        // the historic interval, transitions[index] <= localSecond < transitions[index + 1]
+        int index = -1;
+        long intervalStart = Long.MAX_VALUE;
+        long intervalEnd = Long.MIN_VALUE;
+        // the last rules year, yearStart <= localSecond < yearEnd
+        long yearStart = Long.MAX_VALUE;
+        long yearEnd = Long.MIN_VALUE;
+        ZoneOffsetTransition[] transArray = null;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long localSecond = localSeconds[i];
+            checkLocalSecond(localSecond);
+
+            // last rules, reusing the transitions of the previous year where possible
+            if (useLastRules && (lastTransition < 0 || localSecond > transitions[lastTransition])) {
+                if (localSecond < yearStart || localSecond >= yearEnd) {
+                    long epochDay = Jdk8Methods.floorDiv(localSecond, SECONDS_PER_DAY);
+                    int year = LocalDate.ofEpochDay(epochDay).getYear();
+                    transArray = findTransitionArray(year);
+                    yearStart = LocalDate.of(year, 1, 1).toEpochDay() * SECONDS_PER_DAY;
+                    yearEnd = yearStart + (Year.isLeap(year) ? 366 : 365) * SECONDS_PER_DAY;
+                }
+                Object info = null;
+                for (ZoneOffsetTransition trans : transArray) {
+                    info = findOffsetInfo(localSecond, trans);
+                    if (info instanceof ZoneOffsetTransition || info.equals(trans.getOffsetBefore())) {
+                        break;
+                    }
+                }
+                if (info instanceof ZoneOffsetTransition) {
+                    localSeconds[i] = policy.resolve(localSecond, (ZoneOffsetTransition) info);
+                } else {
+                    localSeconds[i] = localSecond - ((ZoneOffset) info).getTotalSeconds();
+                }
+                continue;
+            }
+
+            // historic rules, stepping forward to the next interval before searching
+            if (localSecond < intervalStart || localSecond >= intervalEnd) {
+                if (localSecond >= intervalEnd && intervalEnd != Long.MIN_VALUE &&
+                        (index + 2 > lastTransition || localSecond < transitions[index + 2])) {
+                    index++;
+                } else {
+                    index = Arrays.binarySearch(transitions, localSecond);
+                    if (index < 0) {
+                        index = -index - 2;
+                    }
+                    // handle overlap immediately following gap
+                    while (index < lastTransition && transitions[index + 1] <= localSecond) {
+                        index++;
+                    }
+                }
+                intervalStart = (index >= 0 ? transitions[index] : Long.MIN_VALUE);
+                intervalEnd = (index < lastTransition ? transitions[index + 1] : Long.MAX_VALUE);
+            }
+            if (index < 0) {
+                // before first transition
+                localSeconds[i] = localSecond - wallOffsets[0].getTotalSeconds();
+            } else if ((index & 1) == 0) {
+                // gap or overlap
+                localSeconds[i] = policy.resolve(localSecond, savingsTransitions[index / 2]);
+            } else {
+                // normal (neither gap or overlap)
+                localSeconds[i] = localSecond - wallOffsets[index / 2 + 1].getTotalSeconds();
+            }
+        }
+    }
+
     /**
      * Finds the offset info for a local date-time and transition.
      *
-     * @param dt  the date-time, not null
+     * @param localSecond  the local date-time as a local epoch second
      * @param trans  the transition, not null
      * @return the offset info, not null
      */
-    private Object findOffsetInfo(LocalDateTime dt, ZoneOffsetTransition trans) {
-        LocalDateTime localTransition = trans.getDateTimeBefore();
+    private Object findOffsetInfo(long localSecond, ZoneOffsetTransition trans) {
+        long epochSec = trans.toEpochSecond();
+        long localBefore = epochSec + trans.getOffsetBefore().getTotalSeconds();
+        long localAfter = epochSec + trans.getOffsetAfter().getTotalSeconds();
         if (trans.isGap()) {
-            if (dt.isBefore(localTransition)) {
+            if (localSecond < localBefore) {
                 return trans.getOffsetBefore();
             }
-            if (dt.isBefore(trans.getDateTimeAfter())) {
+            if (localSecond < localAfter) {
                 return trans;
             } else {
                 return trans.getOffsetAfter();
             }
         } else {
-            if (dt.isBefore(localTransition) == false) {
+            if (localSecond >= localBefore) {
                 return trans.getOffsetAfter();
             }
-            if (dt.isBefore(trans.getDateTimeAfter())) {
+            if (localSecond < localAfter) {
                 return trans.getOffsetBefore();
             } else {
                 return trans;
@@ -420,8 +911,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
      * @return the transition array, not null
      */
     private ZoneOffsetTransition[] findTransitionArray(int year) {
-        Integer yearObj = year;  // should use Year class, but this saves a class load
-        ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
+        ZoneOffsetTransition[] transArray = lastRulesCache.get(year);
         if (transArray != null) {
             return transArray;
         }
@@ -430,9 +920,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         for (int i = 0; i < ruleArray.length; i++) {
             transArray[i] = ruleArray[i].createTransition(year);
         }
-        if (year < LAST_CACHED_YEAR) {
-            lastRulesCache.putIfAbsent(yearObj, transArray);
-        }
+        lastRulesCache.put(year, transArray);
         return transArray;
     }
 
@@ -497,7 +985,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         } else {
             index += 1;  // exact match, so need to add one to get the next
         }
-        return new ZoneOffsetTransition(savingsInstantTransitions[index], wallOffsets[index], wallOffsets[index + 1]);
+        return savingsTransitions[index];
     }
 
     @Override
@@ -540,10 +1028,10 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         if (index <= 0) {
             return null;
         }
-        return new ZoneOffsetTransition(savingsInstantTransitions[index - 1], wallOffsets[index - 1], wallOffsets[index]);
+        return savingsTransitions[index - 1];
     }
 
-    private int findYear(long epochSecond, ZoneOffset offset) {
+    private static int findYear(long epochSecond, ZoneOffset offset) {
         // inline for performance
         long localSecond = epochSecond + offset.getTotalSeconds();
         long localEpochDay = Jdk8Methods.floorDiv(localSecond, 86400);
@@ -553,11 +1041,7 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
     //-------------------------------------------------------------------------
     @Override
     public List<ZoneOffsetTransition> getTransitions() {
-        List<ZoneOffsetTransition> list = new ArrayList<ZoneOffsetTransition>();
-        for (int i = 0; i < savingsInstantTransitions.length; i++) {
-            list.add(new ZoneOffsetTransition(savingsInstantTransitions[i], wallOffsets[i], wallOffsets[i + 1]));
-        }
-        return Collections.unmodifiableList(list);
+        return Collections.unmodifiableList(Arrays.asList(savingsTransitions));
     }
 
     @Override
@@ -605,4 +1089,77 @@ final class StandardZoneRules extends ZoneRules implements Serializable {
         return "StandardZoneRules[currentStandardOffset=" + standardOffsets[standardOffsets.length - 1] + "]";
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Cache of the transitions created from the last rules, keyed by year.
+     * <p>
+     * Years in the range starting from the base year are held in an array
+     * indexed by year, which is read without locking or boxing.
+     * Other years are held in a small least-recently-used map.
+     */
+    private static final class TransitionCache {
+        /**
+         * The first year held in the array.
+         */
+        private final int baseYear;
+        /**
+         * The transitions for each year, indexed from the base year.
+         */
+        private final AtomicReferenceArray<ZoneOffsetTransition[]> years;
+        /**
+         * The transitions for years outside the array, guarded by itself.
+         */
+        private final Map<Integer, ZoneOffsetTransition[]> overflow = new LinkedHashMap<Integer, ZoneOffsetTransition[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, ZoneOffsetTransition[]> eldest) {
+                return size() > OVERFLOW_CACHED_YEARS;
+            }
+        };
+
+        /**
+         * Constructor.
+         *
+         * @param baseYear  the first year held in the array
+         * @param yearCount  the number of years held in the array
+         */
+        TransitionCache(int baseYear, int yearCount) {
+            this.baseYear = baseYear;
+            this.years = new AtomicReferenceArray<ZoneOffsetTransition[]>(yearCount);
+        }
+
+        /**
+         * Gets the cached transitions for the year.
+         *
+         * @param year  the year
+         * @return the transitions, null if not cached
+         */
+        ZoneOffsetTransition[] get(int year) {
+            long index = ((long) year) - baseYear;
+            if (index >= 0 && index < years.length()) {
+                return years.get((int) index);
+            }
+            synchronized (overflow) {
+                return overflow.get(year);
+            }
+        }
+
+        /**
+         * Caches the transitions for the year.
+         *
+         * @param year  the year
+         * @param transArray  the transitions, not null
+         */
+        void put(int year, ZoneOffsetTransition[] transArray) {
+            long index = ((long) year) - baseYear;
+            if (index >= 0 && index < years.length()) {
+                years.lazySet((int) index, transArray);
+            } else {
+                synchronized (overflow) {
+                    overflow.put(year, transArray);
+                }
+            }
+        }
+    }
+
 }
@@ -43,6 +43,7 @@ import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
 import java.text.ParsePosition;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -109,6 +110,7 @@ final class TzdbZoneRulesCompiler {
         File dstDir = null;
         boolean unpacked = false;
         boolean verbose = false;
+        int format = 0;
 
         // parse options
         int i;
@@ -132,6 +134,14 @@ final class TzdbZoneRulesCompiler {
                     version = args[i];
                     continue;
                 }
+            } else if ("-format".equals(arg)) {
+                if (format == 0 && ++i < args.length) {
+                    if ("1".equals(args[i]) || "2".equals(args[i])) {
+                        format = Integer.parseInt(args[i]);
+                        continue;
+                    }
+                    System.out.println("Unrecognised format: " + args[i]);
+                }
             } else if ("-unpacked".equals(arg)) {
                 if (unpacked == false) {
                     unpacked = true;
@@ -200,7 +210,7 @@ final class TzdbZoneRulesCompiler {
             System.out.println("Destination is not a directory: " + dstDir);
             return;
         }
-        process(srcDirs, srcFileNames, dstDir, unpacked, verbose);
+        process(srcDirs, srcFileNames, dstDir, (format == 0 ? 1 : format), unpacked, verbose);
     }
 
     /**
@@ -212,6 +222,7 @@ final class TzdbZoneRulesCompiler {
         System.out.println("   -srcdir <directory>   Where to find source directories (required)");
         System.out.println("   -dstdir <directory>   Where to output generated files (default srcdir)");
         System.out.println("   -version <version>    Specify the version, such as 2009a (optional)");
+        System.out.println("   -format <format>      Specify the dat file format, 1 or 2 (default 1)");
         System.out.println("   -unpacked             Generate dat files without jar files");
         System.out.println("   -help                 Print this usage message");
         System.out.println("   -verbose              Output verbose information during compilation");
@@ -226,7 +237,7 @@ final class TzdbZoneRulesCompiler {
     /**
      * Process to create the jar files.
      */
-    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, boolean unpacked, boolean verbose) {
+    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, int format, boolean unpacked, boolean verbose) {
         // build actual jar files
         Map<Object, Object> deduplicateMap = new HashMap<Object, Object>();
         Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
@@ -268,7 +279,7 @@ final class TzdbZoneRulesCompiler {
                     if (verbose) {
                         System.out.println("Outputting file: " + dstFile);
                     }
-                    outputFile(dstFile, loopVersion, builtZones, parsedLeapSeconds);
+                    outputFile(dstFile, format, loopVersion, builtZones, parsedLeapSeconds);
                 }
 
                 // create totals
@@ -296,20 +307,20 @@ final class TzdbZoneRulesCompiler {
             if (verbose) {
                 System.out.println("Outputting combined files: " + dstDir);
             }
-            outputFilesDat(dstDir, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
+            outputFilesDat(dstDir, format, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
         } else {
             File dstFile = new File(dstDir, "threeten-TZDB-all.jar");
             if (verbose) {
                 System.out.println("Outputting combined file: " + dstFile);
             }
-            outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
+            outputFile(dstFile, format, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
         }
     }
 
     /**
      * Outputs the DAT files.
      */
-    private static void outputFilesDat(File dstDir, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+    private static void outputFilesDat(File dstDir, int format, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
             Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds) {
         File tzdbFile = new File(dstDir, "TZDB.dat");
         tzdbFile.delete();
@@ -317,7 +328,7 @@ final class TzdbZoneRulesCompiler {
             FileOutputStream fos = null;
             try {
                 fos = new FileOutputStream(tzdbFile);
-                outputTzdbDat(fos, allBuiltZones, allRegionIds, allRules);
+                outputTzdbDat(fos, format, allBuiltZones, allRegionIds, allRules);
             } finally {
                 if (fos != null) {
                     fos.close();
@@ -333,23 +344,23 @@ final class TzdbZoneRulesCompiler {
     /**
      * Outputs the file.
      */
-    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones, SortedMap<LocalDate, Byte> leapSeconds) {
+    private static void outputFile(File dstFile, int format, String version, SortedMap<String, ZoneRules> builtZones, SortedMap<LocalDate, Byte> leapSeconds) {
         Map<String, SortedMap<String, ZoneRules>> loopAllBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
         loopAllBuiltZones.put(version, builtZones);
         Set<String> loopAllRegionIds = new TreeSet<String>(builtZones.keySet());
         Set<ZoneRules> loopAllRules = new HashSet<ZoneRules>(builtZones.values());
-        outputFile(dstFile, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds);
+        outputFile(dstFile, format, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds);
     }
 
     /**
      * Outputs the file.
      */
-    private static void outputFile(File dstFile, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+    private static void outputFile(File dstFile, int format, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
             Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds) {
         JarOutputStream jos = null;
         try {
             jos = new JarOutputStream(new FileOutputStream(dstFile));
-            outputTzdbEntry(jos, allBuiltZones, allRegionIds, allRules);
+            outputTzdbEntry(jos, format, allBuiltZones, allRegionIds, allRules);
         } catch (Exception ex) {
             System.out.println("Failed: " + ex.toString());
             ex.printStackTrace();
@@ -369,12 +380,12 @@ final class TzdbZoneRulesCompiler {
      * Outputs the timezone entry in the JAR file.
      */
     private static void outputTzdbEntry(
-            JarOutputStream jos, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+            JarOutputStream jos, int format, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
             Set<String> allRegionIds, Set<ZoneRules> allRules) {
         // this format is not publicly specified
         try {
             jos.putNextEntry(new ZipEntry("org/threeten/bp/TZDB.dat"));
-            outputTzdbDat(jos, allBuiltZones, allRegionIds, allRules);
+            outputTzdbDat(jos, format, allBuiltZones, allRegionIds, allRules);
             jos.closeEntry();
         } catch (Exception ex) {
             System.out.println("Failed: " + ex.toString());
@@ -383,6 +394,19 @@ final class TzdbZoneRulesCompiler {
         }
     }
 
+    /**
+     * Outputs the timezone DAT file in the specified format.
+     */
+    private static void outputTzdbDat(OutputStream jos, int format,
+            Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+            Set<String> allRegionIds, Set<ZoneRules> allRules) throws IOException {
+        if (format == 2) {
+            outputTzdbDatV2(jos, allBuiltZones, allRegionIds, allRules);
+        } else {
+            outputTzdbDat(jos, allBuiltZones, allRegionIds, allRules);
+        }
+    }
+
     /**
      * Outputs the timezone DAT file.
      */
@@ -433,6 +457,113 @@ final class TzdbZoneRulesCompiler {
         out.flush();
     }
 
+    /**
+     * Outputs the timezone DAT file in the indexed version 2 format.
+     * <p>
+     * The format is described by {@code TzdbZoneRulesProvider.loadDataV2}.
+     */
+    static void outputTzdbDatV2(OutputStream jos,
+            Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
+            Set<String> allRegionIds, Set<ZoneRules> allRules) throws IOException {
+        String[] versionArray = allBuiltZones.keySet().toArray(new String[allBuiltZones.size()]);
+        String[] regionArray = allRegionIds.toArray(new String[allRegionIds.size()]);
+        List<ZoneRules> rulesList = new ArrayList<ZoneRules>(allRules);
+        int hashSize = Math.max(4, Integer.highestOneBit(regionArray.length) * 4);
+        int regionEntrySize = 6 + 2 * versionArray.length;
+
+        // calculate the table positions
+        int versionTable = TzdbZoneRulesProvider.V2_HEADER_SIZE;
+        int regionTable = versionTable + versionArray.length * 6;
+        int hashTable = regionTable + regionArray.length * regionEntrySize;
+        int ruleTable = hashTable + hashSize * 2;
+        int namesPosition = ruleTable + rulesList.size() * 4;
+
+        // names
+        ByteArrayOutputStream names = new ByteArrayOutputStream(16 * 1024);
+        int[] versionNamePositions = new int[versionArray.length];
+        for (int i = 0; i < versionArray.length; i++) {
+            versionNamePositions[i] = namesPosition + names.size();
+            names.write(toAscii(versionArray[i]));
+        }
+        int[] regionNamePositions = new int[regionArray.length];
+        for (int i = 0; i < regionArray.length; i++) {
+            regionNamePositions[i] = namesPosition + names.size();
+            names.write(toAscii(regionArray[i]));
+        }
+
+        // rules
+        int rulesPosition = namesPosition + names.size();
+        ByteArrayOutputStream rules = new ByteArrayOutputStream(128 * 1024);
+        DataOutputStream rulesOut = new DataOutputStream(rules);
+        int[] rulePositions = new int[rulesList.size()];
+        for (int i = 0; i < rulesList.size(); i++) {
+            rulePositions[i] = rulesPosition + rules.size();
+            ((StandardZoneRules) rulesList.get(i)).writeFixedWidth(rulesOut);
+        }
+        rulesOut.flush();
+
+        // hash table
+        short[] hashSlots = new short[hashSize];
+        for (int i = 0; i < regionArray.length; i++) {
+            int slot = TzdbZoneRulesProvider.regionHash(regionArray[i]) & (hashSize - 1);
+            while (hashSlots[slot] != 0) {
+                slot = (slot + 1) & (hashSize - 1);
+            }
+            hashSlots[slot] = (short) (i + 1);
+        }
+
+        // header
+        DataOutputStream out = new DataOutputStream(jos);
+        out.writeByte(2);
+        out.write(toAscii("TZDB"));
+        out.write(new byte[3]);
+        out.writeInt(versionArray.length);
+        out.writeInt(regionArray.length);
+        out.writeInt(rulesList.size());
+        out.writeInt(hashSize);
+        out.writeInt(versionTable);
+        out.writeInt(regionTable);
+        out.writeInt(hashTable);
+        out.writeInt(ruleTable);
+        // version table
+        for (int i = 0; i < versionArray.length; i++) {
+            out.writeInt(versionNamePositions[i]);
+            out.writeShort(versionArray[i].length());
+        }
+        // region table
+        for (int i = 0; i < regionArray.length; i++) {
+            out.writeInt(regionNamePositions[i]);
+            out.writeShort(regionArray[i].length());
+            for (String version : versionArray) {
+                ZoneRules regionRules = allBuiltZones.get(version).get(regionArray[i]);
+                out.writeShort(regionRules != null ? rulesList.indexOf(regionRules) : -1);
+            }
+        }
+        // hash table
+        for (short hashSlot : hashSlots) {
+            out.writeShort(hashSlot);
+        }
+        // rules table
+        for (int rulePosition : rulePositions) {
+            out.writeInt(rulePosition);
+        }
+        names.writeTo(out);
+        rules.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Converts a name to US-ASCII bytes.
+     */
+    private static byte[] toAscii(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) > 127) {
+                throw new IllegalArgumentException("Name must be US-ASCII: " + name);
+            }
+        }
+        return name.getBytes(Charset.forName("US-ASCII"));
+    }
+
     //-----------------------------------------------------------------------
     /** The TZDB rules. */
     private final Map<String, List<TZDBRule>> rules = new HashMap<String, List<TZDBRule>>();
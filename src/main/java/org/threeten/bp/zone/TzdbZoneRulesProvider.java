@@ -31,12 +31,16 @@
  */
 package org.threeten.bp.zone;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.io.StreamCorruptedException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -63,6 +67,11 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
     // TODO: can this be private/hidden in any way?
     // service loader seems to need it to be public
 
+    /**
+     * The size of the fixed header of the version 2 format.
+     */
+    static final int V2_HEADER_SIZE = 40;
+
     /**
      * All the regions that are available.
      */
@@ -126,6 +135,27 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         }
     }
 
+    /**
+     * Creates an instance and loads the specified file by mapping it into memory.
+     * <p>
+     * The file is memory-mapped rather than read, and the rules for each region
+     * are decoded directly from the mapped data when first requested.
+     * This minimizes the startup time and heap used by processes that only
+     * use a small number of regions.
+     * The file must not be modified while the provider is in use.
+     *
+     * @param file  the file to load, not null
+     * @throws ZoneRulesException if unable to load
+     */
+    public TzdbZoneRulesProvider(File file) {
+        super();
+        try {
+            load(map(file));
+        } catch (Exception ex) {
+            throw new ZoneRulesException("Unable to load TZDB time-zone rules: " + file, ex);
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override
     protected Set<String> provideZoneIds() {
@@ -209,8 +239,18 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
      * @throws Exception if an error occurs
      */
     private boolean load(InputStream in) throws IOException, StreamCorruptedException {
+        return load(read(in));
+    }
+
+    /**
+     * Loads the rules from a buffer.
+     *
+     * @param data  the buffer to load, not null
+     * @throws Exception if an error occurs
+     */
+    private boolean load(ByteBuffer data) throws IOException, StreamCorruptedException {
         boolean updated = false;
-        Iterable<Version> loadedVersions = loadData(in);
+        Iterable<Version> loadedVersions = loadData(data.slice());
         for (Version loadedVersion : loadedVersions) {
             // see https://github.com/ThreeTen/threetenbp/pull/28 for issue wrt
             // multiple versions of lib on classpath
@@ -224,16 +264,72 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
     }
 
     /**
-     * Loads the rules from an input stream.
+     * Reads the whole of an input stream into a single buffer.
      *
-     * @param in  the stream to load, not null, not closed after use
+     * @param in  the stream to read, not null, not closed after use
+     * @return the buffer, not null
+     * @throws IOException if an IO error occurs
+     */
+    private static ByteBuffer read(InputStream in) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(128 * 1024);
+        byte[] chunk = new byte[8192];
+        int len;
+        while ((len = in.read(chunk)) != -1) {
+            baos.write(chunk, 0, len);
+        }
+        return ByteBuffer.wrap(baos.toByteArray());
+    }
+
+    /**
+     * Maps a file into memory.
+     *
+     * @param file  the file to map, not null
+     * @return the buffer, not null
+     * @throws IOException if an IO error occurs
+     */
+    private static ByteBuffer map(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = raf.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Loads the rules from a buffer.
+     * <p>
+     * The rules themselves are not read, instead the position of each is recorded
+     * so that it can be decoded from the buffer when first requested.
+     *
+     * @param data  the buffer to load, positioned at zero, not null
      * @throws Exception if an error occurs
      */
-    private Iterable<Version> loadData(InputStream in) throws IOException, StreamCorruptedException {
-        DataInputStream dis = new DataInputStream(in);
-        if (dis.readByte() != 1) {
+    private Iterable<Version> loadData(ByteBuffer data) throws IOException, StreamCorruptedException {
+        if (data.remaining() == 0) {
             throw new StreamCorruptedException("File format not recognised");
         }
+        switch (data.get(0)) {
+            case 1:
+                return loadDataV1(data);
+            case 2:
+                return loadDataV2(data);
+            default:
+                throw new StreamCorruptedException("File format not recognised");
+        }
+    }
+
+    /**
+     * Loads the rules from a buffer in the sequential version 1 format.
+     *
+     * @param data  the buffer to load, positioned at zero, not null
+     * @throws Exception if an error occurs
+     */
+    private Iterable<Version> loadDataV1(ByteBuffer data) throws IOException, StreamCorruptedException {
+        ByteBuffer buf = data.duplicate();
+        DataInputStream dis = new DataInputStream(new ByteBufferInputStream(buf));
+        dis.readByte();  // format already checked
         // group
         String groupId = dis.readUTF();
         if ("TZDB".equals(groupId) == false) {
@@ -254,13 +350,15 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         regionIds = Arrays.asList(regionArray);
         // rules
         int ruleCount = dis.readShort();
-        Object[] ruleArray = new Object[ruleCount];
+        int[] rulePositions = new int[ruleCount];
         for (int i = 0; i < ruleCount; i++) {
-            byte[] bytes = new byte[dis.readShort()];
-            dis.readFully(bytes);
-            ruleArray[i] = bytes;
+            int length = dis.readUnsignedShort();
+            rulePositions[i] = buf.position();
+            if (dis.skipBytes(length) != length) {
+                throw new StreamCorruptedException("File format not recognised");
+            }
         }
-        AtomicReferenceArray<Object> ruleData = new AtomicReferenceArray<Object>(ruleArray);
+        RuleData ruleData = new RuleData(data, rulePositions, false);
         // link version-region-rules
         Set<Version> versionSet = new HashSet<Version>(versionCount);
         for (int i = 0; i < versionCount; i++) {
@@ -271,11 +369,100 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
                 versionRegionArray[j] = regionArray[dis.readShort()];
                 versionRulesArray[j] = dis.readShort();
             }
-            versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleData));
+            versionSet.add(new SearchedVersion(versionArray[i], versionRegionArray, versionRulesArray, ruleData));
+        }
+        return versionSet;
+    }
+
+    /**
+     * Loads the rules from a buffer in the indexed version 2 format.
+     * <p>
+     * The format consists of a fixed header, followed by tables of fixed-width
+     * entries that can be accessed directly by index:
+     * <pre>
+     *  header          byte format (2), byte[4] group ("TZDB"), byte[3] reserved,
+     *                  int version count, int region count, int rules count, int hash size,
+     *                  int version table position, int region table position,
+     *                  int hash table position, int rules table position
+     *  version table   per version: int name position, short name length
+     *  region table    per region, sorted by ID: int ID position, short ID length,
+     *                  short rules index for each version, -1 if absent
+     *  hash table      per slot: short region index plus one, zero if empty,
+     *                  with linear probing from the slot of {@link #regionHash(String)}
+     *  rules table     per rules: int position of the rules
+     * </pre>
+     * The names are US-ASCII, and the rules use the fixed-width form of
+     * {@code StandardZoneRules}. All positions are from the start of the data.
+     *
+     * @param data  the buffer to load, positioned at zero, not null
+     * @throws Exception if an error occurs
+     */
+    private Iterable<Version> loadDataV2(ByteBuffer data) throws StreamCorruptedException {
+        if (data.remaining() < V2_HEADER_SIZE ||
+                data.get(1) != 'T' || data.get(2) != 'Z' || data.get(3) != 'D' || data.get(4) != 'B') {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        int versionCount = data.getInt(8);
+        int regionCount = data.getInt(12);
+        int ruleCount = data.getInt(16);
+        int hashSize = data.getInt(20);
+        int versionTable = data.getInt(24);
+        int regionTable = data.getInt(28);
+        int hashTable = data.getInt(32);
+        int ruleTable = data.getInt(36);
+        if (Integer.bitCount(hashSize) != 1 || hashSize <= regionCount) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        // regions
+        int regionEntrySize = 6 + 2 * versionCount;
+        String[] regionArray = new String[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            regionArray[i] = readAscii(data, regionTable + i * regionEntrySize);
+        }
+        regionIds = Arrays.asList(regionArray);
+        // rules
+        int[] rulePositions = new int[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            rulePositions[i] = data.getInt(ruleTable + i * 4);
+        }
+        RuleData ruleData = new RuleData(data, rulePositions, true);
+        // versions
+        Set<Version> versionSet = new HashSet<Version>(versionCount);
+        for (int i = 0; i < versionCount; i++) {
+            String versionId = readAscii(data, versionTable + i * 6);
+            versionSet.add(new IndexedVersion(versionId, ruleData, data, regionArray,
+                    regionTable + 6 + i * 2, regionEntrySize, hashTable, hashSize));
         }
         return versionSet;
     }
 
+    /**
+     * Reads a US-ASCII string referenced from a table entry.
+     *
+     * @param data  the buffer, not null
+     * @param entryPosition  the position of the table entry
+     * @return the string, not null
+     */
+    private static String readAscii(ByteBuffer data, int entryPosition) {
+        int position = data.getInt(entryPosition);
+        char[] chars = new char[data.getShort(entryPosition + 4) & 0xFFFF];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) (data.get(position + i) & 0x7F);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Calculates the hash of a region ID used by the version 2 format.
+     *
+     * @param regionId  the region ID, not null
+     * @return the hash
+     */
+    static int regionHash(String regionId) {
+        int hash = regionId.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
     @Override
     public String toString() {
         return "TZDB";
@@ -285,41 +472,28 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
     /**
      * A version of the TZDB rules.
      */
-    static class Version {
+    abstract static class Version {
         private final String versionId;
-        private final String[] regionArray;
-        private final short[] ruleIndices;
-        private final AtomicReferenceArray<Object> ruleData;
+        private final RuleData ruleData;
 
-        Version(String versionId, String[] regionIds, short[] ruleIndices, AtomicReferenceArray<Object> ruleData) {
-            this.ruleData = ruleData;
+        Version(String versionId, RuleData ruleData) {
             this.versionId = versionId;
-            this.regionArray = regionIds;
-            this.ruleIndices = ruleIndices;
+            this.ruleData = ruleData;
         }
 
         ZoneRules getRules(String regionId) {
-            int regionIndex = Arrays.binarySearch(regionArray, regionId);
-            if (regionIndex < 0) {
+            int ruleIndex = findRuleIndex(regionId);
+            if (ruleIndex < 0) {
                 return null;
             }
             try {
-                return createRule(ruleIndices[regionIndex]);
+                return ruleData.getRules(ruleIndex);
             } catch (Exception ex) {
                 throw new ZoneRulesException("Invalid binary time-zone data: TZDB:" + regionId + ", version: " + versionId, ex);
             }
         }
 
-        ZoneRules createRule(short index) throws Exception {
-            Object obj = ruleData.get(index);
-            if (obj instanceof byte[]) {
-                byte[] bytes = (byte[]) obj;
-                DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes));
-                obj = Ser.read(dis);
-                ruleData.set(index, obj);
-            }
-            return (ZoneRules) obj;
-        }
+        abstract int findRuleIndex(String regionId);
 
         @Override
         public String toString() {
@@ -327,4 +501,96 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
         }
     }
 
+    /**
+     * A version of the TZDB rules loaded from the version 1 format, searched by region ID.
+     */
+    static class SearchedVersion extends Version {
+        private final String[] regionArray;
+        private final short[] ruleIndices;
+
+        SearchedVersion(String versionId, String[] regionIds, short[] ruleIndices, RuleData ruleData) {
+            super(versionId, ruleData);
+            this.regionArray = regionIds;
+            this.ruleIndices = ruleIndices;
+        }
+
+        @Override
+        int findRuleIndex(String regionId) {
+            int regionIndex = Arrays.binarySearch(regionArray, regionId);
+            return (regionIndex < 0 ? -1 : ruleIndices[regionIndex]);
+        }
+    }
+
+    /**
+     * A version of the TZDB rules loaded from the version 2 format, using the hash table.
+     */
+    static class IndexedVersion extends Version {
+        private final ByteBuffer data;
+        private final String[] regionArray;
+        private final int ruleIndexPosition;
+        private final int regionEntrySize;
+        private final int hashTable;
+        private final int hashMask;
+
+        IndexedVersion(String versionId, RuleData ruleData, ByteBuffer data, String[] regionArray,
+                int ruleIndexPosition, int regionEntrySize, int hashTable, int hashSize) {
+            super(versionId, ruleData);
+            this.data = data;
+            this.regionArray = regionArray;
+            this.ruleIndexPosition = ruleIndexPosition;
+            this.regionEntrySize = regionEntrySize;
+            this.hashTable = hashTable;
+            this.hashMask = hashSize - 1;
+        }
+
+        @Override
+        int findRuleIndex(String regionId) {
+            int slot = regionHash(regionId) & hashMask;
+            for (int i = 0; i <= hashMask; i++) {
+                int entry = data.getShort(hashTable + slot * 2);
+                if (entry <= 0) {
+                    return -1;
+                }
+                if (regionArray[entry - 1].equals(regionId)) {
+                    return data.getShort(ruleIndexPosition + (entry - 1) * regionEntrySize);
+                }
+                slot = (slot + 1) & hashMask;
+            }
+            return -1;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The rules shared between versions, decoded from the buffer when first requested.
+     */
+    static class RuleData {
+        private final ByteBuffer data;
+        private final int[] rulePositions;
+        private final boolean fixedWidth;
+        private final AtomicReferenceArray<ZoneRules> rules;
+
+        RuleData(ByteBuffer data, int[] rulePositions, boolean fixedWidth) {
+            this.data = data;
+            this.rulePositions = rulePositions;
+            this.fixedWidth = fixedWidth;
+            this.rules = new AtomicReferenceArray<ZoneRules>(rulePositions.length);
+        }
+
+        ZoneRules getRules(int index) throws Exception {
+            ZoneRules obj = rules.get(index);
+            if (obj == null) {
+                ByteBuffer buf = data.duplicate();
+                buf.position(rulePositions[index]);
+                if (fixedWidth) {
+                    obj = StandardZoneRules.readFixedWidth(buf);
+                } else {
+                    obj = (ZoneRules) Ser.read(new DataInputStream(new ByteBufferInputStream(buf)));
+                }
+                rules.set(index, obj);
+            }
+            return obj;
+        }
+    }
+
 }
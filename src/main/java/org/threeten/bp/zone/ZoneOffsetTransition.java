@@ -82,6 +82,10 @@ public final class ZoneOffsetTransition
      * The offset after transition.
      */
     private final ZoneOffset offsetAfter;
+    /**
+     * The transition epoch-second, derived from the local transition and offset before.
+     */
+    private final long epochSecond;
 
     //-----------------------------------------------------------------------
     /**
@@ -122,6 +126,7 @@ public final class ZoneOffsetTransition
         this.transition = transition;
         this.offsetBefore = offsetBefore;
         this.offsetAfter = offsetAfter;
+        this.epochSecond = transition.toEpochSecond(offsetBefore);
     }
 
     /**
@@ -135,6 +140,7 @@ public final class ZoneOffsetTransition
         this.transition = LocalDateTime.ofEpochSecond(epochSecond, 0, offsetBefore);
         this.offsetBefore = offsetBefore;
         this.offsetAfter = offsetAfter;
+        this.epochSecond = epochSecond;
     }
 
     //-----------------------------------------------------------------------
@@ -198,7 +204,7 @@ public final class ZoneOffsetTransition
      * @return the transition epoch second
      */
     public long toEpochSecond() {
-        return transition.toEpochSecond(offsetBefore);
+        return epochSecond;
     }
 
     //-------------------------------------------------------------------------
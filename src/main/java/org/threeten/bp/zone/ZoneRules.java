@@ -31,10 +31,13 @@
  */
 package org.threeten.bp.zone;
 
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDateTime;
@@ -67,6 +70,23 @@ import org.threeten.bp.jdk8.Jdk8Methods;
  */
 public abstract class ZoneRules {
 
+    /**
+     * The minimum epoch-second of an {@code Instant}.
+     */
+    private static final long MIN_EPOCH_SECOND = Instant.MIN.getEpochSecond();
+    /**
+     * The maximum epoch-second of an {@code Instant}.
+     */
+    private static final long MAX_EPOCH_SECOND = Instant.MAX.getEpochSecond();
+    /**
+     * The minimum local epoch-second of a {@code LocalDateTime}.
+     */
+    private static final long MIN_LOCAL_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+    /**
+     * The maximum local epoch-second of a {@code LocalDateTime}.
+     */
+    private static final long MAX_LOCAL_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
     /**
      * Obtains an instance of {@code ZoneRules} with full transition rules.
      *
@@ -371,6 +391,177 @@ public abstract class ZoneRules {
      */
     public abstract List<ZoneOffsetTransitionRule> getTransitionRules();
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the offsets applicable at a range of epoch-seconds in these rules.
+     * <p>
+     * This is the bulk equivalent of {@link #getOffset(Instant)}, for applications
+     * that hold instants as columns of epoch-seconds. The total offset in seconds
+     * for {@code epochSeconds[i]} is stored in {@code offsetSeconds[i]},
+     * for each index from {@code fromIndex} inclusive to {@code toIndex} exclusive.
+     * <p>
+     * The epoch-seconds may be in any order, however implementations are
+     * optimized for the common case where they are sorted in ascending order.
+     *
+     * @param epochSeconds  the epoch-seconds to find the offsets for, not null
+     * @param fromIndex  the first index to process, inclusive
+     * @param toIndex  the last index to process, exclusive
+     * @param offsetSeconds  the array to store the total offset seconds in, not null
+     * @throws IndexOutOfBoundsException if the range is invalid for either array
+     * @throws DateTimeException if an epoch-second exceeds the range of {@code Instant}
+     */
+    public void getOffsets(long[] epochSeconds, int fromIndex, int toIndex, int[] offsetSeconds) {
+        Jdk8Methods.requireNonNull(epochSeconds, "epochSeconds");
+        Jdk8Methods.requireNonNull(offsetSeconds, "offsetSeconds");
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > epochSeconds.length || toIndex > offsetSeconds.length) {
+            throw new IndexOutOfBoundsException("Invalid range: " + fromIndex + " to " + toIndex);
+        }
+        findOffsets(epochSeconds, fromIndex, toIndex, offsetSeconds);
+    }
+
+    /**
+     * Finds the offsets applicable at a range of epoch-seconds.
+     * <p>
+     * The arguments have been validated.
+     * This implementation queries {@link #getOffset(Instant)} for each epoch-second.
+     *
+     * @param epochSeconds  the epoch-seconds to find the offsets for, not null
+     * @param fromIndex  the first index to process, inclusive
+     * @param toIndex  the last index to process, exclusive
+     * @param offsetSeconds  the array to store the total offset seconds in, not null
+     */
+    void findOffsets(long[] epochSeconds, int fromIndex, int toIndex, int[] offsetSeconds) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            offsetSeconds[i] = getOffset(Instant.ofEpochSecond(epochSeconds[i])).getTotalSeconds();
+        }
+    }
+
+    /**
+     * Checks that the epoch-second is within the range of {@code Instant}.
+     *
+     * @param epochSecond  the epoch-second to check
+     * @throws DateTimeException if the epoch-second exceeds the range of {@code Instant}
+     */
+    static void checkEpochSecond(long epochSecond) {
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+            throw new DateTimeException("Instant exceeds minimum or maximum instant");
+        }
+    }
+
+    /**
+     * Converts a range of local epoch-seconds to epoch-seconds in place using these rules.
+     * <p>
+     * This is the bulk equivalent of combining a {@code LocalDateTime} with these rules,
+     * for applications that hold local date-times as columns of local epoch-seconds,
+     * as defined by {@link LocalDateTime#toEpochSecond(ZoneOffset) toEpochSecond(ZoneOffset.UTC)}.
+     * Each local epoch-second from {@code fromIndex} inclusive to {@code toIndex} exclusive
+     * is replaced by the matching epoch-second.
+     * <p>
+     * Where there is a single valid offset, the local epoch-second is converted using it.
+     * Local epoch-seconds in a gap or overlap are converted using the policy.
+     * If the policy rejects a value, the values before it will already have been converted.
+     * <p>
+     * The local epoch-seconds may be in any order, however implementations are
+     * optimized for the common case where they are sorted in ascending order.
+     *
+     * @param localSeconds  the local epoch-seconds to convert, not null
+     * @param fromIndex  the first index to convert, inclusive
+     * @param toIndex  the last index to convert, exclusive
+     * @param policy  the policy for gaps and overlaps, not null
+     * @throws IndexOutOfBoundsException if the range is invalid for the array
+     * @throws DateTimeException if a local epoch-second exceeds the range of {@code LocalDateTime}
+     *  or the policy rejects a local epoch-second in a gap or overlap
+     */
+    public void toEpochSeconds(long[] localSeconds, int fromIndex, int toIndex, GapOverlapPolicy policy) {
+        Jdk8Methods.requireNonNull(localSeconds, "localSeconds");
+        Jdk8Methods.requireNonNull(policy, "policy");
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > localSeconds.length) {
+            throw new IndexOutOfBoundsException("Invalid range: " + fromIndex + " to " + toIndex);
+        }
+        convertLocalSeconds(localSeconds, fromIndex, toIndex, policy);
+    }
+
+    /**
+     * Converts a range of local epoch-seconds to epoch-seconds in place.
+     * <p>
+     * The arguments have been validated.
+     * This implementation queries {@link #getTransition(LocalDateTime)} for each local epoch-second.
+     *
+     * @param localSeconds  the local epoch-seconds to convert, not null
+     * @param fromIndex  the first index to convert, inclusive
+     * @param toIndex  the last index to convert, exclusive
+     * @param policy  the policy for gaps and overlaps, not null
+     */
+    void convertLocalSeconds(long[] localSeconds, int fromIndex, int toIndex, GapOverlapPolicy policy) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            long localSecond = localSeconds[i];
+            checkLocalSecond(localSecond);
+            LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+            ZoneOffsetTransition trans = getTransition(localDateTime);
+            if (trans != null) {
+                localSeconds[i] = policy.resolve(localSecond, trans);
+            } else {
+                localSeconds[i] = localSecond - getOffset(localDateTime).getTotalSeconds();
+            }
+        }
+    }
+
+    /**
+     * Checks that the local epoch-second is within the range of {@code LocalDateTime}.
+     *
+     * @param localSecond  the local epoch-second to check
+     * @throws DateTimeException if the local epoch-second exceeds the range of {@code LocalDateTime}
+     */
+    static void checkLocalSecond(long localSecond) {
+        if (localSecond < MIN_LOCAL_SECOND || localSecond > MAX_LOCAL_SECOND) {
+            throw new DateTimeException("Local epoch-second exceeds minimum or maximum local date-time");
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns rules equivalent to these with a precomputed index for instant lookups.
+     * <p>
+     * The index covers the specified range of years, allowing {@link #getOffset(Instant)}
+     * to find the offset for an instant in that range using a couple of array reads
+     * rather than a search. Instants outside the range are looked up as normal.
+     * <p>
+     * The returned rules are equal to these rules, and the index is not serialized.
+     * Rules with nothing to index, such as fixed offset rules, return {@code this}.
+     *
+     * @param startYear  the first year to index, inclusive
+     * @param endYear  the last year to index, inclusive
+     * @return the rules with the index, not null
+     * @throws DateTimeException if either year is invalid
+     * @throws IllegalArgumentException if the end year is before the start year,
+     *  or the range is longer than 1000 years
+     */
+    public ZoneRules withOffsetIndex(int startYear, int endYear) {
+        YEAR.checkValidValue(startYear);
+        YEAR.checkValidValue(endYear);
+        if (endYear < startYear) {
+            throw new IllegalArgumentException("End year must not be before start year");
+        }
+        if (endYear - startYear >= 1000) {
+            throw new IllegalArgumentException("Index must not cover more than 1000 years");
+        }
+        return createOffsetIndex(startYear, endYear);
+    }
+
+    /**
+     * Creates the rules with a precomputed index for instant lookups.
+     * <p>
+     * The years have been validated.
+     * This implementation returns {@code this}.
+     *
+     * @param startYear  the first year to index, inclusive
+     * @param endYear  the last year to index, inclusive
+     * @return the rules with the index, not null
+     */
+    ZoneRules createOffsetIndex(int startYear, int endYear) {
+        return this;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this set of rules equals another.
@@ -430,6 +621,24 @@ public abstract class ZoneRules {
             return offset;
         }
 
+        @Override
+        void findOffsets(long[] epochSeconds, int fromIndex, int toIndex, int[] offsetSeconds) {
+            int offsetSecs = offset.getTotalSeconds();
+            for (int i = fromIndex; i < toIndex; i++) {
+                checkEpochSecond(epochSeconds[i]);
+                offsetSeconds[i] = offsetSecs;
+            }
+        }
+
+        @Override
+        void convertLocalSeconds(long[] localSeconds, int fromIndex, int toIndex, GapOverlapPolicy policy) {
+            int offsetSecs = offset.getTotalSeconds();
+            for (int i = fromIndex; i < toIndex; i++) {
+                checkLocalSecond(localSeconds[i]);
+                localSeconds[i] -= offsetSecs;
+            }
+        }
+
         @Override
         public List<ZoneOffset> getValidOffsets(LocalDateTime localDateTime) {
             return Collections.singletonList(offset);
@@ -32,13 +32,19 @@
 package org.threeten.bp.zone;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.threeten.bp.DateTimeException;
+import org.threeten.bp.Duration;
 import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.jdk8.Jdk8Methods;
@@ -78,6 +84,10 @@ public abstract class ZoneRulesProvider {
      * The lookup from zone region ID to provider.
      */
     private static final ConcurrentMap<String, ZoneRulesProvider> ZONES = new ConcurrentHashMap<String, ZoneRulesProvider>(512, 0.75f, 2);
+    /**
+     * The number of refreshes that have updated the rules.
+     */
+    private static volatile int refreshCount;
     static {
         ZoneRulesInitializer.initialize();
     }
@@ -151,6 +161,82 @@ public abstract class ZoneRulesProvider {
         return getProvider(zoneId).provideVersions(zoneId);
     }
 
+    /**
+     * Preloads the rules for the zone IDs, decoding them in parallel.
+     * <p>
+     * Providers typically decode the rules for a zone ID the first time they are
+     * requested, adding latency to that first request. This method allows
+     * an application to request the rules in advance, such as during startup,
+     * so that they are cached by the provider before they are needed.
+     * <p>
+     * One task is submitted to the executor for each zone ID, and this method
+     * blocks until all the tasks have completed. A {@code ForkJoinPool} or any
+     * other thread pool may be used to decode the rules in parallel.
+     * All the zone IDs are checked before any task is submitted.
+     * If the executor rejects a task, no further tasks are submitted and
+     * this method waits for those already submitted before throwing.
+     * An {@code Error} thrown while decoding is rethrown once all the tasks have completed.
+     *
+     * @param zoneIds  the zone region IDs as used by {@code ZoneId}, not null
+     * @param executor  the executor to decode the rules with, not null
+     * @return the time taken to obtain the rules for each zone ID, sorted by zone ID, not null
+     * @throws ZoneRulesException if a zone ID is unknown, rules cannot be obtained for a zone ID,
+     *  the executor rejects a task, or the calling thread is interrupted while waiting
+     */
+    public static Map<String, Duration> preload(Set<String> zoneIds, Executor executor) {
+        Jdk8Methods.requireNonNull(zoneIds, "zoneIds");
+        Jdk8Methods.requireNonNull(executor, "executor");
+        final String[] ids = zoneIds.toArray(new String[zoneIds.size()]);
+        final ZoneRulesProvider[] providers = new ZoneRulesProvider[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            Jdk8Methods.requireNonNull(ids[i], "zoneId");
+            providers[i] = getProvider(ids[i]);
+        }
+        final Map<String, Duration> timings = new ConcurrentHashMap<String, Duration>();
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final CountDownLatch latch = new CountDownLatch(ids.length);
+        int submitted = 0;
+        try {
+            for ( ; submitted < ids.length; submitted++) {
+                final String zoneId = ids[submitted];
+                final ZoneRulesProvider provider = providers[submitted];
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            long start = System.nanoTime();
+                            provider.provideRules(zoneId, true);
+                            timings.put(zoneId, Duration.ofNanos(System.nanoTime() - start));
+                        } catch (Throwable ex) {
+                            failure.compareAndSet(null, ex);
+                        } finally {
+                            latch.countDown();
+                        }
+                    }
+                });
+            }
+        } catch (RuntimeException ex) {
+            failure.compareAndSet(null, ex);
+            for (int i = submitted; i < ids.length; i++) {
+                latch.countDown();
+            }
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ZoneRulesException("Interrupted while preloading time-zone rules", ex);
+        }
+        Throwable ex = failure.get();
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+        if (ex != null) {
+            throw new ZoneRulesException("Unable to preload time-zone rules", ex);
+        }
+        return Collections.unmodifiableMap(new TreeMap<String, Duration>(timings));
+    }
+
     /**
      * Gets the provider for the zone ID.
      *
@@ -229,9 +315,27 @@ public abstract class ZoneRulesProvider {
         for (ZoneRulesProvider provider : PROVIDERS) {
             changed |= provider.provideRefresh();
         }
+        if (changed) {
+            synchronized (ZoneRulesProvider.class) {
+                refreshCount++;
+            }
+        }
         return changed;
     }
 
+    /**
+     * Gets the number of times that {@link #refresh()} has updated the rules.
+     * <p>
+     * The count changes after a refresh that reports updated rules has completed.
+     * This allows rules that have been cached, such as those in a shared {@code ZoneId},
+     * to be discarded when they may be out of date.
+     *
+     * @return the refresh count
+     */
+    public static int getRefreshCount() {
+        return refreshCount;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
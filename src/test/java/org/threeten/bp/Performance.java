@@ -41,6 +41,7 @@ import static org.threeten.bp.temporal.ChronoField.YEAR;
 
 import java.math.BigDecimal;
 import java.text.NumberFormat;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,6 +56,7 @@ import java.util.Random;
 import java.util.TreeMap;
 
 import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeFormatterBuilder;
 
 /**
  * Test Performance.
@@ -78,6 +80,8 @@ public class Performance {
      * @param args  the arguments
      */
     public static void main(String[] args) {
+        // opt in to the pattern cache, measured by ofPatternWarm
+        System.setProperty("org.threeten.bp.format.DateTimeFormatter.patternCacheSize", "64");
         for (loop = 0; loop < 5; loop++) {
             System.out.println("-------------------------------------");
             process();
@@ -106,17 +110,29 @@ public class Performance {
         List<LocalDateTime> ldt = setupDateTime();
         queryListDateTime(ldt);
         formatListDateTime(ldt);
+        parseListDateTime(ldt);
+        parseListDateTimeBytes(ldt);
+        tryParseListDateTimeInvalid(ldt);
         sortListDateTime(ldt);
+        queryPackedDateTime(ldt);
 
         List<ZonedDateTime> zdt = setupZonedDateTime();
         queryListZonedDateTime(zdt);
         formatListZonedDateTime(zdt);
+        formatListZonedDateTimeZoneText(zdt);
+        parseListZonedDateTimeZoneId(zdt);
         sortListZonedDateTime(zdt);
 
         List<Instant> instants = setupInstant();
         queryListInstant(instants);
         formatListInstant(instants);
         sortListInstant(instants);
+        clockEpochNanos();
+        clockInstant("System", Clock.systemUTC(), "Instant-C");
+        clockInstant("Tick", Clock.tick(Clock.systemUTC(), Duration.ofMillis(10)), "Instant-K");
+        CachedClock cached = Clock.cached(Clock.systemUTC(), Duration.ofMillis(1));
+        clockInstant("Cached", cached, "Instant-A");
+        cached.close();
 
         List<Date> judates = setupDate();
         queryListDate(judates);
@@ -126,6 +142,10 @@ public class Performance {
         List<LocalDate> ld = setupLocalDate();
         queryListLocalDate(ld);
         formatListLocalDate(ld);
+        ofPatternCold();
+        ofPatternWarm();
+        parseListLocalDateText(ld);
+        queryPackedLocalDate(ld);
         sortListLocalDate(ld);
 
         List<LocalTime> lt = setupTime();
@@ -196,6 +216,64 @@ public class Performance {
         result("LocalDT-P", end - start);
     }
 
+    private static void parseListDateTime(List<LocalDateTime> list) {
+        List<String> texts = new ArrayList<String>(list.size());
+        for (LocalDateTime dt : list) {
+            texts.add(dt.toString());
+        }
+        LocalDateTime dt = null;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            dt = LocalDateTime.parse(text);
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalDT:   Parse:  " + NF.format(end - start) + " ns" + " " + dt);
+        result("LocalDT-T", end - start);
+    }
+
+    private static void parseListDateTimeBytes(List<LocalDateTime> list) {
+        List<byte[]> texts = new ArrayList<byte[]>(list.size());
+        for (LocalDateTime dt : list) {
+            String str = dt.toString();
+            byte[] bytes = new byte[str.length()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) str.charAt(i);
+            }
+            texts.add(bytes);
+        }
+        DateTimeFormatter f = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+        LocalDateTime dt = null;
+        long start = System.nanoTime();
+        for (byte[] text : texts) {
+            dt = f.parse(text, 0, text.length, LocalDateTime.FROM);
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalDT:   ParseB: " + NF.format(end - start) + " ns" + " " + dt);
+        result("LocalDT-B", end - start);
+    }
+
+    private static void tryParseListDateTimeInvalid(List<LocalDateTime> list) {
+        List<String> texts = new ArrayList<String>(list.size());
+        for (LocalDateTime dt : list) {
+            String str = dt.toString();
+            texts.add(str.substring(0, 8) + "32" + str.substring(10));
+        }
+        DateTimeFormatter f = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+        ParsePosition pos = new ParsePosition(0);
+        int failures = 0;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            pos.setIndex(0);
+            pos.setErrorIndex(-1);
+            if (f.tryParse(text, pos, LocalDateTime.FROM) == null) {
+                failures++;
+            }
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalDT:   TryInv: " + NF.format(end - start) + " ns" + " " + failures);
+        result("LocalDT-I", end - start);
+    }
+
     private static void deriveDateTime(List<LocalDateTime> list) {
         long total = 0;
         long start = System.nanoTime();
@@ -211,6 +289,29 @@ public class Performance {
         result("LocalDT-V", end - start);
     }
 
+    private static void queryPackedDateTime(List<LocalDateTime> list) {
+        long[] packed = new long[list.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = PackedDateTimes.packDateTime(list.get(i).withYear(list.get(i).getYear() % 500 + 1700));
+        }
+        long total = 0;
+        long start = System.nanoTime();
+        Arrays.sort(packed);
+        for (long p : packed) {
+            int date = PackedDateTimes.dateTimeDate(p);
+            long time = PackedDateTimes.dateTimeTime(p);
+            total += PackedDateTimes.dateYear(date);
+            total += PackedDateTimes.dateMonth(date);
+            total += PackedDateTimes.dateDayOfMonth(date);
+            total += PackedDateTimes.timeHour(time);
+            total += PackedDateTimes.timeMinute(time);
+            total += PackedDateTimes.timeSecond(time);
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalDT:   Packed: " + NF.format(end - start) + " ns" + " " + total);
+        result("LocalDT-K", end - start);
+    }
+
     //-----------------------------------------------------------------------
     private static List<LocalDate> setupLocalDate() {
         Random random = new Random(47658758756875687L);
@@ -260,6 +361,62 @@ public class Performance {
         result("LocalD-P", end - start);
     }
 
+    private static void ofPatternCold() {
+        DateTimeFormatter format = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            format = new DateTimeFormatterBuilder().appendPattern("yyyy-MM-dd HH:mm:ss.SSS").toFormatter(Locale.ENGLISH);
+        }
+        long end = System.nanoTime();
+        System.out.println("Pattern:   Cold:   " + NF.format(end - start) + " ns" + " " + format);
+        result("Pattern-C", end - start);
+    }
+
+    private static void ofPatternWarm() {
+        DateTimeFormatter format = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            format = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.ENGLISH);
+        }
+        long end = System.nanoTime();
+        System.out.println("Pattern:   Warm:   " + NF.format(end - start) + " ns" + " " + format);
+        result("Pattern-W", end - start);
+    }
+
+    private static void parseListLocalDateText(List<LocalDate> list) {
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("EEEE d MMMM uuuu", Locale.ENGLISH);
+        List<String> texts = new ArrayList<String>(list.size());
+        for (LocalDate dt : list) {
+            texts.add(format.format(dt));
+        }
+        LocalDate date = null;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            date = LocalDate.parse(text, format);
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalD:    Parse:  " + NF.format(end - start) + " ns" + " " + date);
+        result("LocalD-T", end - start);
+    }
+
+    private static void queryPackedLocalDate(List<LocalDate> list) {
+        int[] packed = new int[list.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = PackedDateTimes.packDate(list.get(i));
+        }
+        long total = 0;
+        long start = System.nanoTime();
+        Arrays.sort(packed);
+        for (int p : packed) {
+            total += PackedDateTimes.dateYear(p);
+            total += PackedDateTimes.dateMonth(p);
+            total += PackedDateTimes.dateDayOfMonth(p);
+        }
+        long end = System.nanoTime();
+        System.out.println("LocalD:    Packed: " + NF.format(end - start) + " ns" + " " + total);
+        result("LocalD-K", end - start);
+    }
+
     //-----------------------------------------------------------------------
     private static List<LocalTime> setupTime() {
         Random random = new Random(47658758756875687L);
@@ -379,6 +536,35 @@ public class Performance {
         result("ZonedDT-P", end - start);
     }
 
+    private static void parseListZonedDateTimeZoneId(List<ZonedDateTime> list) {
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss VV").withLocale(Locale.ENGLISH);
+        List<String> texts = new ArrayList<String>(list.size());
+        for (ZonedDateTime dt : list) {
+            texts.add(format.format(dt));
+        }
+        ZonedDateTime dt = null;
+        long start = System.nanoTime();
+        for (String text : texts) {
+            dt = format.parse(text, ZonedDateTime.FROM);
+        }
+        long end = System.nanoTime();
+        System.out.println("ZonedDT:   ParseZ: " + NF.format(end - start) + " ns" + " " + dt);
+        result("ZonedDT-Z", end - start);
+    }
+
+    private static void formatListZonedDateTimeZoneText(List<ZonedDateTime> list) {
+        StringBuilder buf = new StringBuilder();
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm zzz").withLocale(Locale.ENGLISH);
+        long start = System.nanoTime();
+        for (ZonedDateTime dt : list) {
+            buf.setLength(0);
+            buf.append(format.format(dt));
+        }
+        long end = System.nanoTime();
+        System.out.println("ZonedDT:   ZoneTx: " + NF.format(end - start) + " ns" + " " + buf);
+        result("ZonedDT-Z", end - start);
+    }
+
     //-----------------------------------------------------------------------
     private static List<Instant> setupInstant() {
         Random random = new Random(47658758756875687L);
@@ -414,6 +600,30 @@ public class Performance {
         result("Instant-Q", end - start);
     }
 
+    private static void clockEpochNanos() {
+        Clock clock = Clock.systemNanos(ZoneOffset.UTC);
+        long total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            total += clock.epochNanos();
+        }
+        long end = System.nanoTime();
+        System.out.println("Instant:   Nanos:  " + NF.format(end - start) + " ns" + " " + total);
+        result("Instant-N", end - start);
+    }
+
+    private static void clockInstant(String name, Clock clock, String key) {
+        long total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            total += clock.millis();
+            total += clock.instant().getNano();
+        }
+        long end = System.nanoTime();
+        System.out.println("Instant:   " + (name + ":        ").substring(0, 8) + NF.format(end - start) + " ns" + " " + total);
+        result(key, end - start);
+    }
+
     private static void formatListInstant(List<Instant> list) {
         StringBuilder buf = new StringBuilder();
         long start = System.nanoTime();
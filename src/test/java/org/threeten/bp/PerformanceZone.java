@@ -35,6 +35,7 @@ import java.text.NumberFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.Random;
 
 import org.threeten.bp.zone.ZoneRules;
 
@@ -52,6 +53,37 @@ public class PerformanceZone {
     }
     /** Size. */
     private static final int SIZE = 200000;
+    /** Epoch-seconds from 1970 to 2030 in ascending order. */
+    private static final long[] SORTED = new long[SIZE];
+    /** The same epoch-seconds in random order. */
+    private static final long[] UNSORTED = new long[SIZE];
+    static {
+        long step = (60L * 366 * 86400) / SIZE;
+        for (int i = 0; i < SIZE; i++) {
+            SORTED[i] = i * step;
+            UNSORTED[i] = i * step;
+        }
+        Random random = new Random(1);
+        for (int i = SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = UNSORTED[i];
+            UNSORTED[i] = UNSORTED[j];
+            UNSORTED[j] = tmp;
+        }
+    }
+    /** Local date-times covered by the historic transitions, in random order. */
+    private static final LocalDateTime[] HISTORIC = new LocalDateTime[SIZE];
+    /** Local date-times covered by the last rules, in random order. */
+    private static final LocalDateTime[] RECURRING = new LocalDateTime[SIZE];
+    static {
+        Random random = new Random(1);
+        for (int i = 0; i < SIZE; i++) {
+            HISTORIC[i] = LocalDateTime.of(1900 + random.nextInt(95), random.nextInt(12) + 1, random.nextInt(28) + 1,
+                    random.nextInt(24), random.nextInt(60));
+            RECURRING[i] = LocalDateTime.of(2000 + random.nextInt(30), random.nextInt(12) + 1, random.nextInt(28) + 1,
+                    random.nextInt(24), random.nextInt(60));
+        }
+    }
 
     /**
      * Main.
@@ -66,6 +98,13 @@ public class PerformanceZone {
             jsrInstantGetOffset();
             jsrRulesLocalGetOffset();
             jsrRulesInstantGetOffset();
+            jsrRulesLocalGetOffsets(HISTORIC, "JSR-LoH");
+            jsrRulesLocalGetOffsets(RECURRING, "JSR-LoL");
+            jsrIndexedRulesInstantGetOffset();
+            jsrRulesColumnGetOffset(SORTED, "JSR-CoS");
+            jsrRulesColumnGetOffset(UNSORTED, "JSR-CoU");
+            jsrRulesColumnGetOffsets(SORTED, "JSR-BaS");
+            jsrRulesColumnGetOffsets(UNSORTED, "JSR-BaU");
             jdkLocalGetOffset();
             jdkInstantGetOffset();
             System.out.println();
@@ -111,6 +150,18 @@ public class PerformanceZone {
         System.out.println("JSR-LoR: Setup:  " + NF.format(end - start) + " ns" + list[0]);
     }
 
+    //-----------------------------------------------------------------------
+    private static void jsrRulesLocalGetOffsets(LocalDateTime[] dateTimes, String name) {
+        ZoneRules tz = ZoneId.of("Europe/London").getRules();
+        int[] list = new int[SIZE];
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            list[i] = tz.getOffset(dateTimes[i]).getTotalSeconds();
+        }
+        long end = System.nanoTime();
+        System.out.println(name + ": Setup:  " + NF.format(end - start) + " ns" + list[0]);
+    }
+
     //-----------------------------------------------------------------------
     private static void jsrRulesInstantGetOffset() {
         Instant instant = LocalDateTime.of(YEAR, 6, 1, 12, 0).toInstant(ZoneOffset.ofHours(1));
@@ -124,6 +175,41 @@ public class PerformanceZone {
         System.out.println("JSR-InR: Setup:  " + NF.format(end - start) + " ns" + list[0]);
     }
 
+    //-----------------------------------------------------------------------
+    private static void jsrIndexedRulesInstantGetOffset() {
+        Instant instant = LocalDateTime.of(YEAR, 6, 1, 12, 0).toInstant(ZoneOffset.ofHours(1));
+        ZoneRules tz = ZoneId.of("Europe/London").getRules().withOffsetIndex(1970, 2100);
+        ZoneOffset[] list = new ZoneOffset[SIZE];
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            list[i] = tz.getOffset(instant);
+        }
+        long end = System.nanoTime();
+        System.out.println("JSR-InX: Setup:  " + NF.format(end - start) + " ns" + list[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void jsrRulesColumnGetOffset(long[] epochSeconds, String name) {
+        ZoneRules tz = ZoneId.of("Europe/London").getRules();
+        int[] list = new int[SIZE];
+        long start = System.nanoTime();
+        for (int i = 0; i < SIZE; i++) {
+            list[i] = tz.getOffset(Instant.ofEpochSecond(epochSeconds[i])).getTotalSeconds();
+        }
+        long end = System.nanoTime();
+        System.out.println(name + ": Setup:  " + NF.format(end - start) + " ns" + list[0]);
+    }
+
+    //-----------------------------------------------------------------------
+    private static void jsrRulesColumnGetOffsets(long[] epochSeconds, String name) {
+        ZoneRules tz = ZoneId.of("Europe/London").getRules();
+        int[] list = new int[SIZE];
+        long start = System.nanoTime();
+        tz.getOffsets(epochSeconds, 0, SIZE, list);
+        long end = System.nanoTime();
+        System.out.println(name + ": Setup:  " + NF.format(end - start) + " ns" + list[0]);
+    }
+
     //-----------------------------------------------------------------------
     private static void jdkLocalGetOffset() {
         java.util.TimeZone tz = java.util.TimeZone.getTimeZone("Europe/London");
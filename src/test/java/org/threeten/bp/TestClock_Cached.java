@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test cached clock.
+ */
+@Test
+public class TestClock_Cached {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final Instant INSTANT = LocalDateTime.of(2008, 6, 30, 11, 30, 10, 500).atZone(ZoneOffset.ofHours(2)).toInstant();
+    private static final Duration INTERVAL = Duration.ofMillis(1);
+
+    //-----------------------------------------------------------------------
+    public void test_cached_fixed() {
+        CachedClock test = Clock.cached(Clock.fixed(INSTANT, PARIS), INTERVAL);
+        try {
+            assertTrue(test.isRunning());
+            assertEquals(test.instant(), INSTANT);
+            assertEquals(test.millis(), INSTANT.toEpochMilli());
+            assertEquals(test.epochNanos(), INSTANT.getEpochSecond() * 1000000000L + INSTANT.getNano());
+            assertEquals(test.getZone(), PARIS);
+        } finally {
+            test.close();
+        }
+    }
+
+    public void test_cached_system() throws Exception {
+        CachedClock test = Clock.cached(Clock.systemUTC(), INTERVAL);
+        try {
+            Instant first = test.instant();
+            assertSame(test.instant(), test.instant());
+            for (int i = 0; i < 1000; i++) {
+                if (test.instant().isAfter(first)) {
+                    return;  // success
+                }
+                Thread.sleep(1);
+            }
+            fail();
+        } finally {
+            test.close();
+        }
+    }
+
+    public void test_close() {
+        Clock base = Clock.offset(Clock.systemUTC(), Duration.ofDays(1));
+        CachedClock test = Clock.cached(base, Duration.ofHours(1));
+        Instant cached = test.instant();
+        test.close();
+        assertFalse(test.isRunning());
+        assertTrue(test.instant().isAfter(cached) || test.instant().equals(cached));
+        assertTrue(Math.abs(test.millis() - base.millis()) < 1000);
+        test.close();
+        assertFalse(test.isRunning());
+    }
+
+    public void test_close_whileRefreshing() throws Exception {
+        final CountDownLatch refreshing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Instant stale = Instant.ofEpochSecond(99);
+        Clock base = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+            @Override
+            public Instant instant() {
+                if (Thread.currentThread().getName().equals("CachedClock-ticker")) {
+                    refreshing.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                    return stale;
+                }
+                return INSTANT;
+            }
+        };
+        CachedClock test = Clock.cached(base, INTERVAL);
+        assertTrue(refreshing.await(10, TimeUnit.SECONDS));
+        test.close();
+        release.countDown();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(test.instant(), INSTANT);
+            assertEquals(test.epochNanos(), INSTANT.getEpochSecond() * 1000000000L + INSTANT.getNano());
+            Thread.sleep(1);
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_cached_nullClock() {
+        Clock.cached(null, INTERVAL);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_cached_nullInterval() {
+        Clock.cached(Clock.systemUTC(), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_cached_zeroInterval() {
+        Clock.cached(Clock.systemUTC(), Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_cached_negativeInterval() {
+        Clock.cached(Clock.systemUTC(), Duration.ofMillis(-1));
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_withZone() {
+        CachedClock test = Clock.cached(Clock.fixed(INSTANT, PARIS), INTERVAL);
+        try {
+            Clock changed = test.withZone(MOSCOW);
+            assertEquals(test.getZone(), PARIS);
+            assertEquals(changed.getZone(), MOSCOW);
+            assertEquals(changed.instant(), INSTANT);
+            assertSame(test.withZone(PARIS), test);
+            ((CachedClock) changed).close();
+            assertFalse(test.isRunning());
+        } finally {
+            test.close();
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withZone_null() {
+        CachedClock test = Clock.cached(Clock.fixed(INSTANT, PARIS), INTERVAL);
+        try {
+            test.withZone(null);
+        } finally {
+            test.close();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        CachedClock a = Clock.cached(Clock.fixed(INSTANT, PARIS), INTERVAL);
+        CachedClock b = Clock.cached(Clock.fixed(INSTANT, PARIS), INTERVAL);
+        try {
+            assertEquals(a.equals(a), true);
+            assertEquals(a.equals(b), false);
+            assertEquals(a.equals(a.withZone(MOSCOW).withZone(PARIS)), true);
+            assertEquals(a.hashCode(), a.withZone(MOSCOW).withZone(PARIS).hashCode());
+            assertEquals(a.equals(a.withZone(MOSCOW)), false);
+            assertEquals(a.equals(null), false);
+            assertEquals(a.equals(Clock.fixed(INSTANT, PARIS)), false);
+        } finally {
+            a.close();
+            b.close();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toString() {
+        CachedClock test = Clock.cached(Clock.fixed(INSTANT, PARIS), INTERVAL);
+        test.close();
+        assertEquals(test.toString(), "CachedClock[FixedClock[2008-06-30T09:30:10.000000500Z,Europe/Paris],PT0.001S,Europe/Paris]");
+    }
+
+}
@@ -61,6 +61,16 @@ public class TestClock_Fixed extends AbstractTest {
         assertEquals(test.getZone(), PARIS);
     }
 
+    public void test_epochNanos() {
+        Clock test = Clock.fixed(INSTANT, PARIS);
+        assertEquals(test.epochNanos(), INSTANT.getEpochSecond() * 1000000000L + INSTANT.getNano());
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void test_epochNanos_tooLarge() {
+        Clock.fixed(Instant.ofEpochSecond(Long.MAX_VALUE / 1000000000L + 1), PARIS).epochNanos();
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void test_fixed_InstantZoneId_nullInstant() {
         Clock.fixed(null, PARIS);
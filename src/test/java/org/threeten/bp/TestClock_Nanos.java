@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * Test nanosecond system clock.
+ */
+@Test
+public class TestClock_Nanos extends AbstractTest {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() throws IOException, ClassNotFoundException {
+        assertSerializable(Clock.systemNanos(ZoneOffset.UTC));
+        assertSerializable(Clock.systemNanos(PARIS));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_instant() {
+        Clock system = Clock.systemNanos(ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            Instant instant = system.instant();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant.toEpochMilli()) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_millis() {
+        Clock system = Clock.systemNanos(ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long instant = system.millis();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_epochNanos() {
+        Clock system = Clock.systemNanos(ZoneOffset.UTC);
+        long before = system.epochNanos();
+        Instant instant = system.instant();
+        long after = system.epochNanos();
+        long nanos = instant.getEpochSecond() * 1000000000L + instant.getNano();
+        assertTrue(before <= nanos);
+        assertTrue(nanos <= after);
+    }
+
+    public void test_epochNanos_ordered() {
+        Clock system = Clock.systemNanos(ZoneOffset.UTC);
+        long previous = system.epochNanos();
+        boolean subMillis = false;
+        for (int i = 0; i < 100000; i++) {
+            long nanos = system.epochNanos();
+            assertTrue(nanos >= previous);
+            subMillis |= (nanos % 1000000 != 0);
+            previous = nanos;
+        }
+        assertTrue(subMillis);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_calibration_fastEstimate() {
+        // estimate is 9ms ahead of the system clock when checked
+        Clock.NanoClock.Calibration base = new Clock.NanoClock.Calibration(5000000000L, 0, 0);
+        long checkTime = 1000000000L;
+        assertEquals(base.epochNanos(checkTime), 6000000000L);
+        Clock.NanoClock.Calibration checked = base.check(checkTime, 5990);
+        assertEquals(checked.epochNanos(checkTime), 6000000000L);
+        long previous = base.epochNanos(checkTime - 1);
+        for (long nanoTime = checkTime; nanoTime < checkTime + 30000000L; nanoTime += 1000) {
+            long nanos = checked.epochNanos(nanoTime);
+            assertTrue(nanos > previous);
+            previous = nanos;
+        }
+        // runs at half speed until the correction is applied
+        assertEquals(checked.epochNanos(checkTime + 2000000L), 6001000000L);
+        // then agrees with the system clock, which has advanced 20ms
+        assertEquals(checked.epochNanos(checkTime + 20000000L), 6000000000L + 20000000L - 9000001L);
+        long millis = Jdk8Methods.floorDiv(checked.epochNanos(checkTime + 20000000L), 1000000);
+        assertEquals(millis, 5990 + 20);
+    }
+
+    public void test_calibration_slowEstimate() {
+        // estimate is 4ms behind the system clock when checked
+        Clock.NanoClock.Calibration base = new Clock.NanoClock.Calibration(5000000000L, 0, 0);
+        long checkTime = 1000000000L;
+        Clock.NanoClock.Calibration checked = base.check(checkTime, 6004);
+        assertEquals(checked.epochNanos(checkTime), 6000000000L);
+        assertEquals(checked.epochNanos(checkTime + 2000000L), 6003000000L);
+        assertEquals(checked.epochNanos(checkTime + 10000000L), 6014000000L);
+    }
+
+    public void test_calibration_farBehindJumpsForward() {
+        Clock.NanoClock.Calibration base = new Clock.NanoClock.Calibration(5000000000L, 0, 0);
+        long checkTime = 1000000000L;
+        Clock.NanoClock.Calibration checked = base.check(checkTime, 8000);
+        assertEquals(checked.epochNanos(checkTime), 8000000000L);
+        assertEquals(checked.epochNanos(checkTime + 1000L), 8000001000L);
+    }
+
+    public void test_calibration_farAheadNeverBackwards() {
+        // system clock moved back one hour
+        Clock.NanoClock.Calibration base = new Clock.NanoClock.Calibration(5000000000000L, 0, 0);
+        long checkTime = 1000000000L;
+        Clock.NanoClock.Calibration checked = base.check(checkTime, 5001000 - 3600000);
+        assertEquals(checked.epochNanos(checkTime), 5001000000000L);
+        assertEquals(checked.epochNanos(checkTime + 1000000000L), 5001500000000L);
+        Clock.NanoClock.Calibration next = checked.check(checkTime + 1000000000L, 5002000 - 3600000);
+        assertEquals(next.epochNanos(checkTime + 1000000000L), 5001500000000L);
+        assertTrue(next.epochNanos(checkTime + 1000000001L) > 5001500000000L);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_systemNanos_ZoneId() {
+        Clock test = Clock.systemNanos(PARIS);
+        assertEquals(test.getZone(), PARIS);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_systemNanos_nullZoneId() {
+        Clock.systemNanos(null);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_withZone() {
+        Clock test = Clock.systemNanos(PARIS);
+        Clock changed = test.withZone(MOSCOW);
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(changed.getZone(), MOSCOW);
+        assertEquals(changed, Clock.systemNanos(MOSCOW));
+    }
+
+    public void test_withZone_same() {
+        Clock test = Clock.systemNanos(PARIS);
+        Clock changed = test.withZone(PARIS);
+        assertSame(test, changed);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withZone_null() {
+        Clock.systemNanos(PARIS).withZone(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        Clock a = Clock.systemNanos(ZoneOffset.UTC);
+        Clock b = Clock.systemNanos(ZoneOffset.UTC);
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(b), true);
+        assertEquals(b.equals(a), true);
+
+        Clock c = Clock.systemNanos(PARIS);
+        assertEquals(a.equals(c), false);
+        assertEquals(c.equals(a), false);
+
+        assertEquals(a.equals(null), false);
+        assertEquals(a.equals("other type"), false);
+        assertEquals(a.equals(Clock.systemUTC()), false);
+        assertEquals(Clock.systemUTC().equals(a), false);
+    }
+
+    public void test_hashCode() {
+        Clock a = Clock.systemNanos(ZoneOffset.UTC);
+        Clock b = Clock.systemNanos(ZoneOffset.UTC);
+        assertEquals(a.hashCode(), b.hashCode());
+
+        Clock c = Clock.systemNanos(PARIS);
+        assertEquals(a.hashCode() == c.hashCode(), false);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_toString() {
+        Clock test = Clock.systemNanos(PARIS);
+        assertEquals(test.toString(), "NanoClock[Europe/Paris]");
+    }
+
+}
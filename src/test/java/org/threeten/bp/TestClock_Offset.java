@@ -61,6 +61,12 @@ public class TestClock_Offset extends AbstractTest {
         assertEquals(test.getZone(), PARIS);
     }
 
+    public void test_offset_ClockDuration_epochNanos() {
+        Clock test = Clock.offset(Clock.fixed(INSTANT, PARIS), OFFSET);
+        Instant expected = INSTANT.plus(OFFSET);
+        assertEquals(test.epochNanos(), expected.getEpochSecond() * 1000000000L + expected.getNano());
+    }
+
     public void test_offset_ClockDuration_zeroDuration() {
         Clock underlying = Clock.system(PARIS);
         Clock test = Clock.offset(underlying, Duration.ZERO);
@@ -36,6 +36,7 @@ import static org.testng.Assert.assertSame;
 import static org.testng.Assert.fail;
 
 import java.io.IOException;
+import java.util.TimeZone;
 
 import org.testng.annotations.Test;
 
@@ -84,6 +85,20 @@ public class TestClock_System extends AbstractTest {
         fail();
     }
 
+    public void test_epochNanos() {
+        Clock system = Clock.systemUTC();
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long nanos = system.epochNanos();
+            long systemMillis = System.currentTimeMillis();
+            if (systemMillis - nanos / 1000000 < 10) {
+                assertEquals(nanos % 1000000, 0);
+                return;  // success
+            }
+        }
+        fail();
+    }
+
     //-------------------------------------------------------------------------
     public void test_systemUTC() {
         Clock test = Clock.systemUTC();
@@ -97,6 +112,22 @@ public class TestClock_System extends AbstractTest {
         assertEquals(test, Clock.system(ZoneId.systemDefault()));
     }
 
+    public void test_systemDefaultZone_cached() {
+        assertSame(Clock.systemDefaultZone(), Clock.systemDefaultZone());
+        assertSame(Clock.systemUTC(), Clock.systemUTC());
+    }
+
+    public void test_systemDefaultZone_changed() {
+        TimeZone current = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+            assertEquals(Clock.systemDefaultZone().getZone(), PARIS);
+        } finally {
+            TimeZone.setDefault(current);
+        }
+        assertEquals(Clock.systemDefaultZone().getZone().getId(), current.getID());
+    }
+
     public void test_system_ZoneId() {
         Clock test = Clock.system(PARIS);
         assertEquals(test.getZone(), PARIS);
@@ -480,6 +480,55 @@ public class TestLocalDate extends AbstractDateTimeTest {
         LocalDate.ofEpochDay(MIN_VALID_EPOCHDAYS - 1);
     }
 
+    @Test
+    public void factory_ofEpochDay_cache() {
+        LocalDate.EpochDayCache cache = new LocalDate.EpochDayCache(1896, 2104);
+        long first = LocalDate.of(1896, 1, 1).toEpochDay();
+        long last = LocalDate.of(2104, 12, 31).toEpochDay();
+        assertEquals(cache.get(first - 1), null);
+        assertEquals(cache.get(last + 1), null);
+        assertEquals(cache.get(Long.MIN_VALUE), null);
+        assertEquals(cache.get(Long.MAX_VALUE), null);
+        LocalDate test = LocalDate.of(1896, 1, 1);
+        for (long i = first; i <= last; i++) {
+            assertEquals(cache.get(i), test);
+            test = next(test);
+        }
+    }
+
+    @Test
+    public void factory_ofEpochDay_cacheOneYear() {
+        LocalDate.EpochDayCache cache = new LocalDate.EpochDayCache(-4, -4);
+        assertEquals(cache.get(LocalDate.of(-5, 12, 31).toEpochDay()), null);
+        assertEquals(cache.get(LocalDate.of(-4, 1, 1).toEpochDay()), LocalDate.of(-4, 1, 1));
+        assertEquals(cache.get(LocalDate.of(-4, 2, 29).toEpochDay()), LocalDate.of(-4, 2, 29));
+        assertEquals(cache.get(LocalDate.of(-4, 12, 31).toEpochDay()), LocalDate.of(-4, 12, 31));
+        assertEquals(cache.get(LocalDate.of(-3, 1, 1).toEpochDay()), null);
+    }
+
+    @Test
+    public void factory_ofEpochDay_cacheCreate() {
+        LocalDate.EpochDayCache cache = LocalDate.EpochDayCache.create(2000, 2001);
+        assertEquals(cache.get(LocalDate.of(2000, 1, 1).toEpochDay()), LocalDate.of(2000, 1, 1));
+        assertEquals(cache.get(LocalDate.of(2001, 12, 31).toEpochDay()), LocalDate.of(2001, 12, 31));
+        assertEquals(cache.get(LocalDate.of(2002, 1, 1).toEpochDay()), null);
+        cache = LocalDate.EpochDayCache.create(Year.MAX_VALUE - 1, Integer.MAX_VALUE);
+        assertEquals(cache.get(LocalDate.MAX.toEpochDay()), LocalDate.MAX);
+        cache = LocalDate.EpochDayCache.create(0, 5000);
+        assertEquals(cache.get(LocalDate.of(999, 12, 31).toEpochDay()), LocalDate.of(999, 12, 31));
+        assertEquals(cache.get(LocalDate.of(1000, 1, 1).toEpochDay()), null);
+    }
+
+    @Test
+    public void factory_ofEpochDay_cacheCreateDisabled() {
+        assertEquals(LocalDate.EpochDayCache.create(null, 2000), null);
+        assertEquals(LocalDate.EpochDayCache.create(2000, null), null);
+        assertEquals(LocalDate.EpochDayCache.create(2001, 2000), null);
+        assertEquals(LocalDate.EpochDayCache.create(Integer.MIN_VALUE, Year.MIN_VALUE - 1), null);
+        assertEquals(LocalDate.EpochDayCache.create(Year.MAX_VALUE + 1, Integer.MAX_VALUE), null);
+        assertEquals(LocalDate.EpochDayCache.create(Integer.MAX_VALUE, Integer.MAX_VALUE), null);
+    }
+
     //-----------------------------------------------------------------------
     // from()
     //-----------------------------------------------------------------------
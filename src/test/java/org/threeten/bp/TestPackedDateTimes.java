@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test.
+ */
+@Test
+public class TestPackedDateTimes {
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "dates")
+    Object[][] data_dates() {
+        return new Object[][] {
+            {LocalDate.of(2012, 6, 30)},
+            {LocalDate.of(2012, 2, 29)},
+            {LocalDate.of(1970, 1, 1)},
+            {LocalDate.of(0, 1, 1)},
+            {LocalDate.of(-1, 12, 31)},
+            {LocalDate.of(PackedDateTimes.MIN_PACKED_YEAR, 1, 1)},
+            {LocalDate.of(PackedDateTimes.MAX_PACKED_YEAR, 12, 31)},
+        };
+    }
+
+    @Test(dataProvider = "dates")
+    public void test_packDate(LocalDate date) {
+        int packed = PackedDateTimes.packDate(date);
+        assertEquals(PackedDateTimes.dateYear(packed), date.getYear());
+        assertEquals(PackedDateTimes.dateMonth(packed), date.getMonthValue());
+        assertEquals(PackedDateTimes.dateDayOfMonth(packed), date.getDayOfMonth());
+        assertEquals(PackedDateTimes.unpackDate(packed), date);
+    }
+
+    public void test_packDate_order() {
+        LocalDate[] dates = {
+            LocalDate.of(-2, 12, 31), LocalDate.of(-1, 1, 1), LocalDate.of(-1, 12, 31), LocalDate.of(0, 1, 1),
+            LocalDate.of(0, 1, 31), LocalDate.of(0, 2, 1), LocalDate.of(2012, 6, 30), LocalDate.of(2012, 7, 1),
+        };
+        for (int i = 1; i < dates.length; i++) {
+            assertTrue(PackedDateTimes.packDate(dates[i - 1]) < PackedDateTimes.packDate(dates[i]));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packDate_tooEarly() {
+        PackedDateTimes.packDate(LocalDate.of(PackedDateTimes.MIN_PACKED_YEAR - 1, 12, 31));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packDate_tooLate() {
+        PackedDateTimes.packDate(LocalDate.of(PackedDateTimes.MAX_PACKED_YEAR + 1, 1, 1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_packDate_null() {
+        PackedDateTimes.packDate(null);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_unpackDate_invalid() {
+        PackedDateTimes.unpackDate(PackedDateTimes.packDate(LocalDate.of(2012, 2, 1)) + 30);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "times")
+    Object[][] data_times() {
+        return new Object[][] {
+            {LocalTime.MIDNIGHT},
+            {LocalTime.NOON},
+            {LocalTime.MAX},
+            {LocalTime.of(11, 30, 40, 123456789)},
+        };
+    }
+
+    @Test(dataProvider = "times")
+    public void test_packTime(LocalTime time) {
+        long packed = PackedDateTimes.packTime(time);
+        assertEquals(PackedDateTimes.timeHour(packed), time.getHour());
+        assertEquals(PackedDateTimes.timeMinute(packed), time.getMinute());
+        assertEquals(PackedDateTimes.timeSecond(packed), time.getSecond());
+        assertEquals(PackedDateTimes.timeNano(packed), time.getNano());
+        assertEquals(PackedDateTimes.unpackTime(packed), time);
+    }
+
+    public void test_packTime_order() {
+        LocalTime[] times = {
+            LocalTime.MIDNIGHT, LocalTime.of(0, 0, 0, 999999999), LocalTime.of(0, 0, 1), LocalTime.of(0, 0, 59, 999999999),
+            LocalTime.of(0, 1), LocalTime.of(0, 59, 59), LocalTime.of(1, 0), LocalTime.MAX,
+        };
+        for (int i = 1; i < times.length; i++) {
+            assertTrue(PackedDateTimes.packTime(times[i - 1]) < PackedDateTimes.packTime(times[i]));
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_unpackTime_negative() {
+        PackedDateTimes.unpackTime(-1);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_unpackTime_invalidHour() {
+        PackedDateTimes.unpackTime(24L << 42);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "dateTimes")
+    Object[][] data_dateTimes() {
+        return new Object[][] {
+            {LocalDateTime.of(1970, 1, 1, 0, 0)},
+            {LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999999999)},
+            {LocalDateTime.of(2012, 2, 29, 11, 30, 40, 123456789)},
+            {LocalDateTime.of(1700, 3, 1, 0, 0)},
+            {LocalDateTime.of(2200, 2, 28, 23, 0)},
+            {LocalDateTime.of(1677, 9, 21, 0, 12, 43, 145224192)},
+            {LocalDateTime.of(2262, 4, 11, 23, 47, 16, 854775807)},
+        };
+    }
+
+    @Test(dataProvider = "dateTimes")
+    public void test_packDateTime(LocalDateTime dateTime) {
+        long packed = PackedDateTimes.packDateTime(dateTime);
+        assertEquals(PackedDateTimes.unpackDateTime(packed), dateTime);
+        assertEquals(PackedDateTimes.unpackDate(PackedDateTimes.dateTimeDate(packed)), dateTime.toLocalDate());
+        assertEquals(PackedDateTimes.unpackTime(PackedDateTimes.dateTimeTime(packed)), dateTime.toLocalTime());
+    }
+
+    public void test_packDateTime_limits() {
+        assertEquals(PackedDateTimes.packDateTime(LocalDateTime.of(1677, 9, 21, 0, 12, 43, 145224192)), Long.MIN_VALUE);
+        assertEquals(PackedDateTimes.packDateTime(LocalDateTime.of(2262, 4, 11, 23, 47, 16, 854775807)), Long.MAX_VALUE);
+    }
+
+    public void test_dateTimeDate_everyDay() {
+        LocalDate date = LocalDate.of(1677, 9, 22);
+        LocalDate end = LocalDate.of(2262, 4, 11);
+        while (date.isAfter(end) == false) {
+            long packed = PackedDateTimes.packDateTime(date.atTime(12, 0));
+            assertEquals(PackedDateTimes.dateTimeDate(packed), PackedDateTimes.packDate(date));
+            date = date.plusDays(1);
+        }
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packDateTime_tooEarly() {
+        PackedDateTimes.packDateTime(LocalDateTime.of(1677, 9, 21, 0, 12, 43, 145224191));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packDateTime_tooLate() {
+        PackedDateTimes.packDateTime(LocalDateTime.of(2262, 4, 11, 23, 47, 16, 854775808));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_packInstant() {
+        assertEquals(PackedDateTimes.packInstant(Instant.EPOCH), 0L);
+        assertEquals(PackedDateTimes.packInstant(Instant.ofEpochSecond(-1, 999999999)), -1L);
+        assertEquals(PackedDateTimes.packInstant(Instant.ofEpochSecond(1, 5)), 1000000005L);
+        assertEquals(PackedDateTimes.packInstant(Instant.ofEpochSecond(0, Long.MIN_VALUE)), Long.MIN_VALUE);
+        assertEquals(PackedDateTimes.packInstant(Instant.ofEpochSecond(0, Long.MAX_VALUE)), Long.MAX_VALUE);
+        assertEquals(PackedDateTimes.unpackInstant(Long.MIN_VALUE), Instant.ofEpochSecond(0, Long.MIN_VALUE));
+        assertEquals(PackedDateTimes.unpackInstant(-1L), Instant.ofEpochSecond(-1, 999999999));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packInstant_tooEarly() {
+        PackedDateTimes.packInstant(Instant.ofEpochSecond(0, Long.MIN_VALUE).minusNanos(1));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_packInstant_tooLate() {
+        PackedDateTimes.packInstant(Instant.ofEpochSecond(0, Long.MAX_VALUE).plusNanos(1));
+    }
+
+}
@@ -34,6 +34,7 @@ package org.threeten.bp;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.io.IOException;
@@ -167,6 +168,23 @@ public class TestZoneId extends AbstractTest {
         assertEquals(test.getId(), TimeZone.getDefault().getID());
     }
 
+    public void test_systemDefault_cached() {
+        assertSame(ZoneId.systemDefault(), ZoneId.systemDefault());
+    }
+
+    public void test_systemDefault_changed() {
+        TimeZone current = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            assertEquals(ZoneId.systemDefault(), ZoneId.of("Asia/Tokyo"));
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+            assertEquals(ZoneId.systemDefault(), ZoneId.of("Europe/Paris"));
+        } finally {
+            TimeZone.setDefault(current);
+        }
+        assertEquals(ZoneId.systemDefault().getId(), current.getID());
+    }
+
     @Test(expectedExceptions = DateTimeException.class)
     public void test_systemDefault_unableToConvert_badFormat() {
         TimeZone current = TimeZone.getDefault();
@@ -385,6 +403,15 @@ public class TestZoneId extends AbstractTest {
         assertEquals(test.getRules().isFixedOffset(), false);
     }
 
+    public void test_of_string_shared() {
+        assertSame(ZoneId.of("Europe/London"), ZoneId.of("Europe/London"));
+        assertSame(ZoneId.of("GMT0"), ZoneId.of("GMT0"));
+        assertSame(ZoneId.of("UTC"), ZoneId.of("UTC+00:00"));
+        assertSame(ZoneId.of("GMT+1"), ZoneId.of("GMT+01:00"));
+        assertSame(ZoneId.of("UT-05:30"), ZoneId.ofOffset("UT", ZoneOffset.of("-05:30")));
+        assertEquals(ZoneId.of("UTC+01:02:03").getId(), "UTC+01:02:03");
+    }
+
     //-----------------------------------------------------------------------
     @Test(expectedExceptions=NullPointerException.class)
     public void test_of_string_null() {
@@ -398,6 +398,22 @@ public class TestZoneOffset extends AbstractDateTimeTest {
         assertEquals(ZoneOffset.ofTotalSeconds(-18 * 60 * 60), ZoneOffset.ofHours(-18));
     }
 
+    @Test
+    public void test_factory_quarterHours_shared() {
+        for (int quarters = -72; quarters <= 72; quarters++) {
+            ZoneOffset test = ZoneOffset.ofTotalSeconds(quarters * 15 * 60);
+            assertEquals(test.getTotalSeconds(), quarters * 15 * 60);
+            assertSame(ZoneOffset.of(test.getId()), test);
+            assertSame(ZoneOffset.ofHoursMinutes(quarters / 4, (quarters % 4) * 15), test);
+            if (quarters % 4 == 0) {
+                assertSame(ZoneOffset.ofHours(quarters / 4), test);
+            }
+        }
+        assertSame(ZoneOffset.of("+0530"), ZoneOffset.ofHoursMinutes(5, 30));
+        assertSame(ZoneOffset.of("-09"), ZoneOffset.ofHours(-9));
+        assertEquals(ZoneOffset.of("+05:31"), ZoneOffset.ofHoursMinutes(5, 31));
+    }
+
     @Test(expectedExceptions=DateTimeException.class)
     public void test_factory_ofTotalSeconds_tooLarge() {
         ZoneOffset.ofTotalSeconds(18 * 60 * 60 + 1);
@@ -34,18 +34,24 @@ package org.threeten.bp.format;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
 import java.util.Locale;
 
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.LocalTime;
 import org.threeten.bp.YearMonth;
 import org.threeten.bp.ZoneId;
@@ -147,6 +153,86 @@ public class TestDateTimeFormatter {
         }
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_print_CalendricalCharArray() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        char[] array = "-------".toCharArray();
+        assertEquals(test.formatTo(LocalDate.of(2008, 6, 30), array, 1), 5);
+        assertEquals(new String(array), "-ONE30-");
+    }
+
+    @Test
+    public void test_print_CalendricalCharArray_doesNotFit() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        char[] array = "-----".toCharArray();
+        try {
+            test.formatTo(LocalDate.of(2008, 6, 30), array, 1);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            assertEquals(new String(array), "-----");
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_print_CalendricalCharArray_badOffset() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        test.formatTo(LocalDate.of(2008, 6, 30), new char[10], -1);
+    }
+
+    @Test
+    public void test_print_CalendricalCharBuffer() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        CharBuffer buffer = CharBuffer.allocate(10);
+        buffer.put('-');
+        assertEquals(test.formatTo(LocalDate.of(2008, 6, 30), buffer), 5);
+        assertEquals(buffer.position(), 6);
+        buffer.flip();
+        assertEquals(buffer.toString(), "-ONE30");
+    }
+
+    @Test(expectedExceptions=BufferOverflowException.class)
+    public void test_print_CalendricalCharBuffer_doesNotFit() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        test.formatTo(LocalDate.of(2008, 6, 30), CharBuffer.allocate(4));
+    }
+
+    @Test
+    public void test_print_CalendricalByteArray() throws Exception {
+        DateTimeFormatter test = fmt.withLocale(Locale.ENGLISH).withDecimalStyle(DecimalStyle.STANDARD);
+        byte[] array = new byte[7];
+        assertEquals(test.formatTo(LocalDate.of(2008, 6, 30), array, 2), 5);
+        assertEquals(new String(array, 2, 5, "US-ASCII"), "ONE30");
+    }
+
+    @Test
+    public void test_print_CalendricalByteArray_notAscii() throws Exception {
+        DateTimeFormatter test = DateTimeFormatter.ofPattern("MMMM", Locale.FRENCH);
+        byte[] array = new byte[20];
+        try {
+            test.formatTo(LocalDate.of(2008, 2, 1), array, 0);
+            fail();
+        } catch (DateTimeException ex) {
+            assertEquals(array, new byte[20]);
+        }
+    }
+
+    @Test
+    public void test_print_CalendricalByteBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(30);
+        assertEquals(DateTimeFormatter.ISO_LOCAL_DATE.formatTo(LocalDate.of(2008, 6, 30), buffer), 10);
+        assertEquals(buffer.position(), 10);
+        byte[] array = new byte[10];
+        buffer.flip();
+        buffer.get(array);
+        assertEquals(new String(array, "US-ASCII"), "2008-06-30");
+    }
+
+    @Test(expectedExceptions=BufferOverflowException.class)
+    public void test_print_CalendricalByteBuffer_doesNotFit() throws Exception {
+        DateTimeFormatter.ISO_LOCAL_DATE.formatTo(LocalDate.of(2008, 6, 30), ByteBuffer.allocate(9));
+    }
+
     //-----------------------------------------------------------------------
     // parse(Class)
     //-----------------------------------------------------------------------
@@ -212,6 +298,143 @@ public class TestDateTimeFormatter {
         test.parse("30", (TemporalQuery<?>) null);
     }
 
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_tryParse() throws Exception {
+        ParsePosition pos = new ParsePosition(3);
+        LocalDate result = DATE_FORMATTER.tryParse("XXXONE2012 07 27", pos, LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+        assertEquals(pos.getIndex(), 16);
+        assertEquals(pos.getErrorIndex(), -1);
+    }
+
+    @Test
+    public void test_tryParse_iso() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        LocalDateTime result = DateTimeFormatter.ISO_LOCAL_DATE_TIME.tryParse("2012-07-27T10:15:30", pos, LocalDateTime.FROM);
+        assertEquals(result, LocalDateTime.of(2012, 7, 27, 10, 15, 30));
+        assertEquals(pos.getIndex(), 19);
+    }
+
+    @Test
+    public void test_tryParse_incomplete() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        LocalDate result = DATE_FORMATTER.tryParse("ONE2012 07 27SomethingElse", pos, LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+        assertEquals(pos.getIndex(), 13);
+        assertEquals(pos.getErrorIndex(), -1);
+    }
+
+    @Test
+    public void test_tryParse_parseError() throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        assertNull(DATE_FORMATTER.tryParse("ONE2012 07 XX", pos, LocalDate.FROM));
+        assertEquals(pos.getIndex(), 0);
+        assertEquals(pos.getErrorIndex(), 11);
+    }
+
+    @DataProvider(name="tryParseResolveError")
+    Object[][] data_tryParseResolveError() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-02-30", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-13-01", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-00-01", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE.withResolverStyle(ResolverStyle.STRICT), "2011-02-29", LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-07-27T25:00", LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, "2012-07-27T10:61", LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE, "2012-07-27", LocalDateTime.FROM},
+            {DateTimeFormatter.ofPattern("yyyy-MM-dd E", Locale.ENGLISH), "2012-07-27 Mon", LocalDate.FROM},
+        };
+    }
+
+    @Test(dataProvider="tryParseResolveError")
+    public void test_tryParse_resolveError(DateTimeFormatter formatter, String text, TemporalQuery<?> query) throws Exception {
+        ParsePosition pos = new ParsePosition(0);
+        assertNull(formatter.tryParse(text, pos, query));
+        assertEquals(pos.getIndex(), 0);
+        assertEquals(pos.getErrorIndex(), 0);
+        try {
+            formatter.parse(text, query);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertTrue(ex.getCause().getStackTrace().length > 0);
+        }
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_tryParse_nullText() throws Exception {
+        DATE_FORMATTER.tryParse((String) null, new ParsePosition(0), LocalDate.FROM);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_tryParse_nullPosition() throws Exception {
+        DATE_FORMATTER.tryParse("ONE2012 07 27", null, LocalDate.FROM);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_tryParse_nullQuery() throws Exception {
+        DATE_FORMATTER.tryParse("ONE2012 07 27", new ParsePosition(0), null);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parse_Class_ByteArray() throws Exception {
+        byte[] array = "--ONE2012 07 27--".getBytes("US-ASCII");
+        LocalDate result = DATE_FORMATTER.parse(array, 2, 13, LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+    }
+
+    @Test
+    public void test_parse_Class_ByteArray_iso() throws Exception {
+        byte[] array = "2012-07-27T10:15:30".getBytes("US-ASCII");
+        LocalDateTime result = DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse(array, 0, array.length, LocalDateTime.FROM);
+        assertEquals(result, LocalDateTime.of(2012, 7, 27, 10, 15, 30));
+    }
+
+    @Test(expectedExceptions=DateTimeParseException.class)
+    public void test_parse_Class_ByteArray_parseError() throws Exception {
+        byte[] array = "ONE2012 07 XX".getBytes("US-ASCII");
+        try {
+            DATE_FORMATTER.parse(array, 0, array.length, LocalDate.FROM);
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getParsedString(), "ONE2012 07 XX");
+            assertEquals(ex.getErrorIndex(), 11);
+            throw ex;
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeParseException.class)
+    public void test_parse_Class_ByteArray_notAscii() throws Exception {
+        byte[] array = "ONE2012 07 2\u00e9".getBytes("UTF-8");
+        DATE_FORMATTER.parse(array, 0, array.length, LocalDate.FROM);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_parse_Class_ByteArray_badLength() throws Exception {
+        DATE_FORMATTER.parse(new byte[10], 2, 9, LocalDate.FROM);
+    }
+
+    @Test
+    public void test_parse_Class_ByteBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap("--ONE2012 07 27".getBytes("US-ASCII"));
+        buffer.position(2);
+        LocalDate result = DATE_FORMATTER.parse(buffer.slice(), LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+        assertEquals(DATE_FORMATTER.parse(buffer, LocalDate.FROM), LocalDate.of(2012, 7, 27));
+        assertEquals(buffer.position(), 2);
+    }
+
+    @Test
+    public void test_parse_Class_ByteBuffer_direct() throws Exception {
+        byte[] bytes = "ONE2012 07 27".getBytes("US-ASCII");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        LocalDate result = DATE_FORMATTER.parse(buffer, LocalDate.FROM);
+        assertEquals(result, LocalDate.of(2012, 7, 27));
+        assertEquals(buffer.position(), 0);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_parseBest_firstOption() throws Exception {
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.NANO_OF_SECOND;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
+
+import java.text.ParsePosition;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.temporal.IsoFields;
+import org.threeten.bp.temporal.TemporalField;
+
+/**
+ * Test FieldValueMap.
+ */
+@Test
+public class TestFieldValueMap {
+
+    //-----------------------------------------------------------------------
+    public void test_primitive() {
+        FieldValueMap map = new FieldValueMap();
+        assertTrue(map.isEmpty());
+        map.putLong(YEAR, 2012);
+        map.putLong(IsoFields.QUARTER_OF_YEAR, 3);
+        assertTrue(map.contains(YEAR));
+        assertFalse(map.contains(MONTH_OF_YEAR));
+        assertTrue(map.contains((TemporalField) IsoFields.QUARTER_OF_YEAR));
+        assertEquals(map.getLong(YEAR), 2012);
+        assertEquals(map.getLong(IsoFields.QUARTER_OF_YEAR), 3);
+        assertEquals(map.size(), 2);
+        assertEquals(map.removeLong(YEAR), 2012);
+        assertFalse(map.contains(YEAR));
+        assertEquals(map.size(), 1);
+    }
+
+    public void test_mapMethods() {
+        FieldValueMap map = new FieldValueMap();
+        assertNull(map.put(YEAR, 2012L));
+        assertEquals(map.put(YEAR, 2013L), Long.valueOf(2012));
+        assertNull(map.put(IsoFields.QUARTER_OF_YEAR, 3L));
+        assertEquals(map.get(YEAR), Long.valueOf(2013));
+        assertNull(map.get(MONTH_OF_YEAR));
+        assertNull(map.get("NotAField"));
+        assertTrue(map.containsKey(IsoFields.QUARTER_OF_YEAR));
+        assertEquals(map.remove(YEAR), Long.valueOf(2013));
+        assertNull(map.remove(YEAR));
+        assertEquals(map.remove(IsoFields.QUARTER_OF_YEAR), Long.valueOf(3));
+        assertTrue(map.isEmpty());
+    }
+
+    public void test_equalsHashMap() {
+        FieldValueMap map = new FieldValueMap();
+        map.putLong(NANO_OF_SECOND, 123456789);
+        map.putLong(DAY_OF_MONTH, 30);
+        map.putLong(IsoFields.QUARTER_OF_YEAR, 3);
+        Map<TemporalField, Long> expected = new HashMap<TemporalField, Long>();
+        expected.put(NANO_OF_SECOND, 123456789L);
+        expected.put(DAY_OF_MONTH, 30L);
+        expected.put(IsoFields.QUARTER_OF_YEAR, 3L);
+        assertEquals(map, expected);
+        assertEquals(expected, map);
+        assertEquals(map.hashCode(), expected.hashCode());
+    }
+
+    public void test_entrySet_iteratorRemove() {
+        FieldValueMap map = new FieldValueMap();
+        map.putLong(YEAR, 2012);
+        map.putLong(MONTH_OF_YEAR, 6);
+        map.putLong(IsoFields.QUARTER_OF_YEAR, 2);
+        Iterator<Entry<TemporalField, Long>> it = map.entrySet().iterator();
+        assertEquals(it.next().getKey(), MONTH_OF_YEAR);
+        it.remove();
+        Entry<TemporalField, Long> entry = it.next();
+        assertEquals(entry.getKey(), YEAR);
+        entry.setValue(2013L);
+        assertEquals(it.next().getKey(), IsoFields.QUARTER_OF_YEAR);
+        it.remove();
+        assertFalse(it.hasNext());
+        assertEquals(map.size(), 1);
+        assertEquals(map.getLong(YEAR), 2013);
+    }
+
+    public void test_entrySet_iteratorRemoveAfterHasNext() {
+        FieldValueMap map = new FieldValueMap();
+        map.putLong(YEAR, 2012);
+        map.putLong(IsoFields.QUARTER_OF_YEAR, 2);
+        Iterator<Entry<TemporalField, Long>> it = map.entrySet().iterator();
+        assertEquals(it.next().getKey(), YEAR);
+        assertTrue(it.hasNext());
+        it.remove();
+        assertFalse(map.contains(YEAR));
+        assertEquals(it.next().getKey(), IsoFields.QUARTER_OF_YEAR);
+        assertFalse(it.hasNext());
+        it.remove();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void test_entrySet_iteratorRemoveTwice() {
+        FieldValueMap map = new FieldValueMap();
+        map.putLong(YEAR, 2012);
+        map.putLong(IsoFields.QUARTER_OF_YEAR, 2);
+        Iterator<Entry<TemporalField, Long>> it = map.entrySet().iterator();
+        it.next();
+        it.hasNext();
+        it.remove();
+        it.remove();
+    }
+
+    public void test_otherFields_noneCreated() {
+        FieldValueMap map = new FieldValueMap();
+        map.putLong(YEAR, 2012);
+        assertTrue(map.otherFields().isEmpty());
+        assertNull(map.others);
+    }
+
+    public void test_resolveIsoDate_noOtherFields() {
+        DateTimeParseContext.Parsed parsed = (DateTimeParseContext.Parsed)
+                DateTimeFormatter.ISO_LOCAL_DATE.parseUnresolved("2012-06-30", new ParsePosition(0));
+        DateTimeBuilder builder = parsed.toBuilder();
+        assertEquals(builder.resolve(ResolverStyle.STRICT, null).build(LocalDate.FROM), LocalDate.of(2012, 6, 30));
+        assertNull(builder.fieldValues.others);
+    }
+
+    public void test_copyFrom_independent() {
+        FieldValueMap base = new FieldValueMap();
+        base.putLong(YEAR, 2012);
+        base.putLong(IsoFields.QUARTER_OF_YEAR, 2);
+        FieldValueMap copy = new FieldValueMap();
+        copy.putLong(DAY_OF_MONTH, 1);
+        copy.copyFrom(base);
+        copy.putLong(YEAR, 2013);
+        copy.remove(IsoFields.QUARTER_OF_YEAR);
+        assertFalse(copy.contains(DAY_OF_MONTH));
+        assertEquals(base.getLong(YEAR), 2012);
+        assertTrue(base.contains((TemporalField) IsoFields.QUARTER_OF_YEAR));
+    }
+
+    public void test_retainFields() {
+        FieldValueMap map = new FieldValueMap();
+        map.putLong(YEAR, 2012);
+        map.putLong(MONTH_OF_YEAR, 6);
+        map.putLong(IsoFields.QUARTER_OF_YEAR, 2);
+        Set<TemporalField> fields = new HashSet<TemporalField>();
+        fields.add(MONTH_OF_YEAR);
+        map.retainFields(fields);
+        assertEquals(map.size(), 1);
+        assertTrue(map.contains(MONTH_OF_YEAR));
+    }
+
+}
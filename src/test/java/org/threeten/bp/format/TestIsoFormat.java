@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.Instant;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.OffsetDateTime;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalQuery;
+
+/**
+ * Test IsoFormat against the general purpose formatters.
+ */
+@Test
+public class TestIsoFormat {
+
+    @DataProvider(name = "formatters")
+    Object[][] data_formatters() {
+        return new Object[][] {
+            {DateTimeFormatter.ISO_LOCAL_DATE, LocalDate.FROM},
+            {DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime.FROM},
+            {DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime.FROM},
+            {DateTimeFormatter.ISO_INSTANT, Instant.FROM},
+        };
+    }
+
+    @DataProvider(name = "texts")
+    Object[][] data_texts() {
+        String[] texts = {
+            "2012-06-30", "0000-01-01", "9999-12-31", "2012-02-29", "2011-02-29", "2012-04-31",
+            "2012-13-01", "2012-00-01", "2012-06-00", "2012-6-30", "+12012-06-30", "-0001-06-30", "2012-06-30x",
+            "2012-06-30T12:30", "2012-06-30t12:30", "2012-06-30T12:30:40", "2012-06-30T12:30:40.5",
+            "2012-06-30T12:30:40.123456789", "2012-06-30T12:30:40.1234567890", "2012-06-30T12:30:40.",
+            "2012-06-30T24:00", "2012-06-30T24:00:00", "2012-06-30T23:60", "2012-06-30T23:59:60",
+            "2012-06-30T1:30", "2012-06-30T12:30:4", "2012-06-30 12:30",
+            "2012-06-30T12:30Z", "2012-06-30T12:30:40z", "2012-06-30T12:30:40.5Z", "2012-06-30T12:30:40.Z",
+            "2012-06-30T12:30+01:00", "2012-06-30T12:30:40-05:30", "2012-06-30T12:30:40.001+18:00",
+            "2012-06-30T12:30:40+18:01", "2012-06-30T12:30:40+19:00", "2012-06-30T12:30:40+01:60",
+            "2012-06-30T12:30:40+01:00:30", "2012-06-30T12:30:40+0100", "2012-06-30T12:30:40-00:00",
+            "2012-06-30T12:30:4\u0661Z", "", "2012", "2012-06-30T", "2012-06-30TZ",
+        };
+        Object[][] data = new Object[texts.length][];
+        for (int i = 0; i < texts.length; i++) {
+            data[i] = new Object[] {texts[i]};
+        }
+        return data;
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "texts")
+    public void test_parse_sameAsGeneral(String text) {
+        for (Object[] objects : data_formatters()) {
+            DateTimeFormatter formatter = (DateTimeFormatter) objects[0];
+            TemporalQuery<?> query = (TemporalQuery<?>) objects[1];
+            assertSameParse(formatter, query, text);
+        }
+    }
+
+    public void test_parse_random() {
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            long epochSecond = (long) (random.nextDouble() * 500000000000L) - 100000000000L;
+            int nano = random.nextInt(4) * (random.nextInt(1000000000) / (int) Math.pow(1000, random.nextInt(3)));
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(random.nextInt(145) * 900 - 18 * 3600);
+            OffsetDateTime odt = OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+            for (Object[] objects : data_formatters()) {
+                DateTimeFormatter formatter = (DateTimeFormatter) objects[0];
+                TemporalQuery<?> query = (TemporalQuery<?>) objects[1];
+                TemporalAccessor value = (TemporalAccessor) odt.query(query);
+                String text = general(formatter).format(value);
+                assertEquals(formatter.format(value), text);
+                assertSameParse(formatter, query, text);
+                assertEquals(formatter.parse(text, query), value);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static DateTimeFormatter general(DateTimeFormatter formatter) {
+        // the with methods do not retain the hand-written format
+        return formatter.withLocale(Locale.FRANCE);
+    }
+
+    private static void assertSameParse(DateTimeFormatter formatter, TemporalQuery<?> query, String text) {
+        Object expected;
+        try {
+            expected = general(formatter).parse(text, query);
+        } catch (DateTimeParseException ex) {
+            expected = ex.getMessage();
+        }
+        Object actual;
+        try {
+            actual = formatter.parse(text, query);
+            assertTrue(actual instanceof TemporalAccessor);
+        } catch (DateTimeParseException ex) {
+            actual = ex.getMessage();
+        }
+        assertEquals(actual, expected, text);
+    }
+
+}
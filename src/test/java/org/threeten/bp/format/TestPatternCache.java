@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test PatternCache.
+ */
+@Test
+public class TestPatternCache {
+
+    //-----------------------------------------------------------------------
+    public void test_get_shared() {
+        PatternCache cache = new PatternCache(4);
+        DateTimeFormatter first = cache.get("yyyy-MM-dd", Locale.UK);
+        assertEquals(first.toString(), DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.UK).toString());
+        assertEquals(first.getLocale(), Locale.UK);
+        assertSame(cache.get("yyyy-MM-dd", Locale.UK), first);
+        assertNotSame(cache.get("yyyy-MM-dd", Locale.FRANCE), first);
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 2);
+        assertEquals(cache.size(), 2);
+    }
+
+    public void test_get_evictsLeastRecentlyUsed() {
+        PatternCache cache = new PatternCache(2);
+        DateTimeFormatter a = cache.get("a", Locale.UK);
+        DateTimeFormatter b = cache.get("H", Locale.UK);
+        assertSame(cache.get("a", Locale.UK), a);
+        cache.get("m", Locale.UK);
+        assertEquals(cache.size(), 2);
+        assertSame(cache.get("a", Locale.UK), a);
+        assertNotSame(cache.get("H", Locale.UK), b);
+        assertEquals(cache.getHitCount(), 2);
+        assertEquals(cache.getMissCount(), 4);
+    }
+
+    public void test_get_concurrent() throws Exception {
+        final PatternCache cache = new PatternCache(3);
+        final String[] patterns = {"yyyy", "MM", "dd", "HH", "mm"};
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < 2000; i++) {
+                            String pattern = patterns[(i + offset) % patterns.length];
+                            DateTimeFormatter formatter = cache.get(pattern, Locale.UK);
+                            assertEquals(formatter.toString(), DateTimeFormatter.ofPattern(pattern, Locale.UK).toString());
+                        }
+                    } catch (Throwable ex) {
+                        failure.compareAndSet(null, ex);
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+        assertTrue(cache.size() <= 3);
+        assertEquals(cache.getHitCount() + cache.getMissCount(), 4 * 2000);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_get_invalid() {
+        PatternCache cache = new PatternCache(2);
+        try {
+            cache.get("{", Locale.UK);
+        } finally {
+            assertEquals(cache.size(), 0);
+            assertEquals(cache.getMissCount(), 1);
+        }
+    }
+
+}
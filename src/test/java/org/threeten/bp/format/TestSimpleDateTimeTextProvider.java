@@ -41,6 +41,7 @@ import java.util.Locale;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.format.DateTimeFormatterBuilder.PrefixTree;
 import org.threeten.bp.temporal.TemporalField;
 
 /**
@@ -157,4 +158,29 @@ public class TestSimpleDateTimeTextProvider {
         assertEquals(tp.getText(field, value.longValue(), style, locale).equalsIgnoreCase(expected), true, expected);
     }
 
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "Text")
+    public void test_getTextTree(TemporalField field, Number value, TextStyle style, Locale locale, String expected) {
+        DateTimeTextProvider tp = DateTimeTextProvider.getInstance();
+        String text = tp.getText(field, value.longValue(), style, locale);
+        PrefixTree<Long> match = tp.getTextTree(field, style, locale, true).match("x" + text + "x", 1);
+        assertEquals(match.value, Long.valueOf(value.longValue()));
+        assertEquals(match.length, text.length());
+        // use the provider's text, as the expected text varies by JDK locale data
+        String upper = text.toUpperCase(locale);
+        match = tp.getTextTree(field, null, locale, false).match(upper, 0);
+        assertEquals(match.value, Long.valueOf(value.longValue()));
+        assertEquals(match.length, upper.length());
+    }
+
+    public void test_getTextTree_longestMatch() {
+        DateTimeTextProvider tp = DateTimeTextProvider.getInstance();
+        PrefixTree<Long> tree = tp.getTextTree(MONTH_OF_YEAR, null, enUS, true);
+        assertEquals(tree.match("June", 0).length, 4);
+        assertEquals(tree.match("Jun", 0).length, 3);
+        assertEquals(tree.match("Jul", 0).value, Long.valueOf(7));
+        assertEquals(tree.match("Xyz", 0), null);
+        assertEquals(tree.match("june", 0), null);
+    }
+
 }
@@ -34,6 +34,7 @@ package org.threeten.bp.format;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Locale;
 import java.util.Set;
 
 import org.testng.annotations.DataProvider;
@@ -138,6 +139,31 @@ public class TestZoneIdParser extends AbstractTestPrinterParser {
         assertParsed(ZoneId.of("Europe/London"));
     }
 
+    @Test(dataProvider="zones")
+    public void test_parse_exactMatch_upperCase(String parse, ZoneId expected) throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(TemporalQueries.zoneId(), null);
+        parseContext.setCaseSensitive(false);
+        int result = pp.parse(parseContext, parse.toUpperCase(Locale.ENGLISH), 0);
+        assertEquals(result, parse.length());
+        assertParsed(expected);
+    }
+
+    @Test
+    public void test_parse_longestMatch() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(TemporalQueries.zoneId(), null);
+        int result = pp.parse(parseContext, "Etc/GMT-12:00", 0);
+        assertEquals(result, 10);
+        assertParsed(ZoneId.of("Etc/GMT-12"));
+    }
+
+    @Test
+    public void test_parse_longestMatch_shorterValid() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(TemporalQueries.zoneId(), null);
+        int result = pp.parse(parseContext, "Etc/GMT-1X", 0);
+        assertEquals(result, 9);
+        assertParsed(ZoneId.of("Etc/GMT-1"));
+    }
+
     //-----------------------------------------------------------------------
     public void test_parse_endStringMatch_utc() throws Exception {
         ZoneIdPrinterParser pp = new ZoneIdPrinterParser(TemporalQueries.zoneId(), null);
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.format.DateTimeFormatterBuilder.PrefixTree;
+import org.threeten.bp.format.DateTimeFormatterBuilder.ZoneTextPrinterParser;
+
+/**
+ * Test ZoneTextPrinterParser parsing.
+ */
+@Test
+public class TestZoneTextParser extends AbstractTestPrinterParser {
+
+    //-----------------------------------------------------------------------
+    public void test_parse_displayName_full() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        String name = TimeZone.getTimeZone("Europe/London").getDisplayName(true, TimeZone.LONG, Locale.ENGLISH);
+        int result = pp.parse(parseContext, "OTHER" + name + "OTHER", 5);
+        assertEquals(result, 5 + name.length());
+        ZoneId zone = parseContext.toParsed().zone;
+        assertEquals(TimeZone.getTimeZone(zone.getId()).getDisplayName(true, TimeZone.LONG, Locale.ENGLISH), name);
+    }
+
+    public void test_parse_displayName_caseInsensitive() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        String name = TimeZone.getTimeZone("America/New_York").getDisplayName(false, TimeZone.LONG, Locale.ENGLISH);
+        parseContext.setCaseSensitive(false);
+        int result = pp.parse(parseContext, name.toLowerCase(Locale.ENGLISH), 0);
+        assertEquals(result, name.length());
+        ZoneId zone = parseContext.toParsed().zone;
+        assertEquals(TimeZone.getTimeZone(zone.getId()).getDisplayName(false, TimeZone.LONG, Locale.ENGLISH), name);
+    }
+
+    public void test_parse_id() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.SHORT);
+        int result = pp.parse(parseContext, "Europe/London", 0);
+        assertEquals(result, 13);
+        assertEquals(parseContext.toParsed().zone, ZoneId.of("Europe/London"));
+    }
+
+    public void test_parse_Z() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.SHORT);
+        int result = pp.parse(parseContext, "Z", 0);
+        assertEquals(result, 1);
+        assertEquals(parseContext.toParsed().zone, ZoneOffset.UTC);
+    }
+
+    public void test_parse_noMatch() throws Exception {
+        ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+        int result = pp.parse(parseContext, "OTHER!Bogus", 6);
+        assertEquals(result, ~6);
+        assertNull(parseContext.toParsed().zone);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_prefixTree_longestMatch() {
+        Map<String, String> values = new HashMap<String, String>();
+        values.put("A", "1");
+        values.put("AB", "2");
+        values.put("ABCD", "4");
+        PrefixTree<String> tree = PrefixTree.build(values, true);
+        assertEquals(tree.match("ABC", 0).value, "2");
+        assertEquals(tree.match("ABC", 0).length, 2);
+        assertEquals(tree.match("XABCDE", 1).value, "4");
+        assertEquals(tree.match("XA", 1).value, "1");
+        assertNull(tree.match("ab", 0));
+        assertNull(tree.match("B", 0));
+        assertNull(tree.match("A", 1));
+    }
+
+    public void test_prefixTree_caseInsensitive() {
+        Map<String, String> values = new HashMap<String, String>();
+        values.put("ab", "lower");
+        values.put("AB", "upper");
+        PrefixTree<String> tree = PrefixTree.build(values, false);
+        assertEquals(tree.match("aB", 0).value, "upper");
+        assertEquals(tree.match("Ab", 0).length, 2);
+    }
+
+}
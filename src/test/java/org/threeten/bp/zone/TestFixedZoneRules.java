@@ -32,14 +32,18 @@
 package org.threeten.bp.zone;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDateTime;
@@ -116,6 +120,32 @@ public class TestFixedZoneRules {
         assertEquals(test.getOffset((Instant) null), expectedOffset);
     }
 
+    @Test(dataProvider="rules")
+    public void test_withOffsetIndex(ZoneRules test, ZoneOffset expectedOffset) {
+        assertSame(test.withOffsetIndex(1970, 2100), test);
+    }
+
+    @Test(dataProvider="rules")
+    public void test_getOffsets(ZoneRules test, ZoneOffset expectedOffset) {
+        int[] offsets = new int[3];
+        test.getOffsets(new long[] {Instant.MIN.getEpochSecond(), 0, Instant.MAX.getEpochSecond()}, 0, 3, offsets);
+        int total = expectedOffset.getTotalSeconds();
+        assertTrue(Arrays.equals(offsets, new int[] {total, total, total}));
+    }
+
+    @Test(dataProvider="rules", expectedExceptions=DateTimeException.class)
+    public void test_getOffsets_tooSmall(ZoneRules test, ZoneOffset expectedOffset) {
+        test.getOffsets(new long[] {Instant.MIN.getEpochSecond() - 1}, 0, 1, new int[1]);
+    }
+
+    @Test(dataProvider="rules")
+    public void test_toEpochSeconds(ZoneRules test, ZoneOffset expectedOffset) {
+        long[] localSeconds = {0, LDT.toEpochSecond(ZoneOffset.UTC)};
+        test.toEpochSeconds(localSeconds, 0, 2, GapOverlapPolicy.REJECT);
+        assertTrue(Arrays.equals(localSeconds, new long[] {
+            -expectedOffset.getTotalSeconds(), LDT.toEpochSecond(expectedOffset)}));
+    }
+
     @Test(dataProvider="rules")
     public void test_getOffset_LocalDateTime(ZoneRules test, ZoneOffset expectedOffset) {
         assertEquals(test.getOffset(LDT), expectedOffset);
@@ -35,17 +35,23 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
@@ -280,6 +286,74 @@ public class TestStandardZoneRules {
         assertEquals(trans.hashCode(), otherTrans.hashCode());
     }
 
+    public void test_London_getOffsetInfo_gap_historic() {
+        ZoneRules test = europeLondon();
+        checkOffset(test, LocalDateTime.of(1980, 3, 16, 1, 59, 59, 999999999), OFFSET_ZERO, 1);
+        checkOffset(test, LocalDateTime.of(1980, 3, 16, 2, 0, 0, 0), OFFSET_ZERO, GAP);
+        checkOffset(test, LocalDateTime.of(1980, 3, 16, 2, 59, 59, 999999999), OFFSET_ZERO, GAP);
+        checkOffset(test, LocalDateTime.of(1980, 3, 16, 3, 0, 0, 0), OFFSET_PONE, 1);
+        ZoneOffsetTransition trans = test.getTransition(LocalDateTime.of(1980, 3, 16, 2, 30));
+        assertEquals(trans.getInstant(), createInstant(1980, 3, 16, 2, 0, ZoneOffset.UTC));
+        assertSame(test.getTransition(LocalDateTime.of(1980, 3, 16, 2, 0)), trans);
+    }
+
+    public void test_London_getOffsetInfo_overlap_historic() {
+        ZoneRules test = europeLondon();
+        checkOffset(test, LocalDateTime.of(1980, 10, 26, 1, 59, 59, 999999999), OFFSET_PONE, 1);
+        checkOffset(test, LocalDateTime.of(1980, 10, 26, 2, 0, 0, 0), OFFSET_PONE, OVERLAP);
+        checkOffset(test, LocalDateTime.of(1980, 10, 26, 2, 59, 59, 999999999), OFFSET_PONE, OVERLAP);
+        checkOffset(test, LocalDateTime.of(1980, 10, 26, 3, 0, 0, 0), OFFSET_ZERO, 1);
+    }
+
+    public void test_getValidOffsets_aroundEveryTransition() {
+        // the local lookup must agree with the instant lookup for every zone
+        for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+            ZoneRules test = ZoneId.of(zoneId).getRules();
+            List<ZoneOffset> offsets = new ArrayList<ZoneOffset>();
+            for (ZoneOffsetTransition trans : test.getTransitions()) {
+                if (offsets.contains(trans.getOffsetBefore()) == false) {
+                    offsets.add(trans.getOffsetBefore());
+                }
+                if (offsets.contains(trans.getOffsetAfter()) == false) {
+                    offsets.add(trans.getOffsetAfter());
+                }
+            }
+            for (ZoneOffsetTransition trans : test.getTransitions()) {
+                LocalDateTime start = trans.getDateTimeBefore().isBefore(trans.getDateTimeAfter()) ?
+                        trans.getDateTimeBefore() : trans.getDateTimeAfter();
+                LocalDateTime end = trans.getDateTimeBefore().isBefore(trans.getDateTimeAfter()) ?
+                        trans.getDateTimeAfter() : trans.getDateTimeBefore();
+                LocalDateTime[] checks = {start.minusNanos(1), start, end.minusNanos(1), end};
+                for (LocalDateTime ldt : checks) {
+                    List<ZoneOffset> expected = new ArrayList<ZoneOffset>();
+                    for (ZoneOffset offset : offsets) {
+                        if (test.getOffset(ldt.toInstant(offset)).equals(offset)) {
+                            expected.add(offset);
+                        }
+                    }
+                    List<ZoneOffset> valid = test.getValidOffsets(ldt);
+                    if (expected.size() > 0) {
+                        assertEquals(valid.size(), expected.size(), zoneId + " " + ldt);
+                        assertTrue(valid.containsAll(expected), zoneId + " " + ldt);
+                    }
+                }
+            }
+        }
+    }
+
+    public void test_London_getOffset_farFuture() {
+        ZoneRules test = europeLondon();
+        for (int year : new int[] {2100, 2150, 2500, 9999, 999999}) {
+            assertEquals(test.getOffset(createInstant(year, 1, 1, ZoneOffset.UTC)), OFFSET_ZERO);
+            assertEquals(test.getOffset(createInstant(year, 7, 1, ZoneOffset.UTC)), OFFSET_PONE);
+            assertEquals(test.getOffset(LocalDateTime.of(year, 7, 1, 12, 0)), OFFSET_PONE);
+            ZoneOffsetTransition trans = test.nextTransition(createInstant(year, 7, 1, ZoneOffset.UTC));
+            assertEquals(trans.getDateTimeBefore().getYear(), year);
+            assertEquals(trans.getDateTimeBefore().getMonth(), Month.OCTOBER);
+            assertSame(test.nextTransition(createInstant(year, 7, 1, ZoneOffset.UTC)), trans);
+        }
+    }
+
     public void test_London_getStandardOffset() {
         ZoneRules test = europeLondon();
         ZonedDateTime zdt = createZDT(1840, 1, 1, ZoneOffset.UTC);
@@ -1091,6 +1165,232 @@ public class TestStandardZoneRules {
         assertEquals(test.nextTransition(last.getInstant()), null);
     }
 
+    //-------------------------------------------------------------------------
+    public void test_withOffsetIndex_matchesRules() {
+        for (String zoneId : new String[] {"Europe/London", "America/New_York", "Asia/Kathmandu", "Australia/Lord_Howe", "Europe/Moscow"}) {
+            ZoneRules rules = ZoneId.of(zoneId).getRules();
+            ZoneRules test = rules.withOffsetIndex(1970, 2100);
+            assertEquals(test, rules);
+            long start = createInstant(1969, 12, 1, ZoneOffset.UTC).getEpochSecond();
+            long end = createInstant(2101, 2, 1, ZoneOffset.UTC).getEpochSecond();
+            for (long epochSec = start; epochSec < end; epochSec += 3607) {
+                Instant instant = Instant.ofEpochSecond(epochSec);
+                assertEquals(test.getOffset(instant), rules.getOffset(instant), zoneId + " " + instant);
+            }
+            for (ZoneOffsetTransition trans : rules.getTransitions()) {
+                long epochSec = trans.toEpochSecond();
+                assertEquals(test.getOffset(Instant.ofEpochSecond(epochSec - 1)), trans.getOffsetBefore());
+                assertEquals(test.getOffset(Instant.ofEpochSecond(epochSec)), trans.getOffsetAfter());
+            }
+        }
+    }
+
+    public void test_withOffsetIndex_serialization() throws Exception {
+        ZoneRules test = europeLondon().withOffsetIndex(2000, 2010);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(test);
+        baos.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertEquals(in.readObject(), test);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_withOffsetIndex_endBeforeStart() {
+        europeLondon().withOffsetIndex(2000, 1999);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_withOffsetIndex_tooLong() {
+        europeLondon().withOffsetIndex(1000, 2000);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_getOffsets_matchesGetOffset() {
+        long start = createInstant(1840, 1, 1, ZoneOffset.UTC).getEpochSecond();
+        long end = createInstant(2150, 1, 1, ZoneOffset.UTC).getEpochSecond();
+        int size = (int) ((end - start) / 86417) + 2;
+        long[] sorted = new long[size];
+        for (int i = 0; i < size - 2; i++) {
+            sorted[i] = start + i * 86417L;
+        }
+        sorted[size - 2] = createInstant(100000, 1, 1, ZoneOffset.UTC).getEpochSecond();
+        sorted[size - 1] = createInstant(100000, 7, 1, ZoneOffset.UTC).getEpochSecond();
+        long[] unsorted = sorted.clone();
+        Random random = new Random(2);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = unsorted[i];
+            unsorted[i] = unsorted[j];
+            unsorted[j] = tmp;
+        }
+        for (String zoneId : new String[] {"Europe/London", "America/New_York", "Asia/Kathmandu", "Australia/Lord_Howe"}) {
+            ZoneRules rules = ZoneId.of(zoneId).getRules();
+            for (ZoneRules test : new ZoneRules[] {rules, rules.withOffsetIndex(1970, 2100)}) {
+                for (long[] epochSeconds : new long[][] {sorted, unsorted}) {
+                    int[] offsets = new int[size + 1];
+                    test.getOffsets(epochSeconds, 0, size, offsets);
+                    for (int i = 0; i < size; i++) {
+                        Instant instant = Instant.ofEpochSecond(epochSeconds[i]);
+                        assertEquals(offsets[i], rules.getOffset(instant).getTotalSeconds(), zoneId + " " + instant);
+                    }
+                    assertEquals(offsets[size], 0);
+                }
+            }
+            long[] transitions = new long[rules.getTransitions().size() * 2];
+            int[] expected = new int[transitions.length];
+            for (int i = 0; i < transitions.length; i += 2) {
+                ZoneOffsetTransition trans = rules.getTransitions().get(i / 2);
+                transitions[i] = trans.toEpochSecond() - 1;
+                transitions[i + 1] = trans.toEpochSecond();
+                expected[i] = trans.getOffsetBefore().getTotalSeconds();
+                expected[i + 1] = trans.getOffsetAfter().getTotalSeconds();
+            }
+            int[] offsets = new int[transitions.length];
+            rules.getOffsets(transitions, 0, transitions.length, offsets);
+            assertTrue(Arrays.equals(offsets, expected), zoneId);
+        }
+    }
+
+    public void test_getOffsets_subRange() {
+        ZoneRules test = europeLondon();
+        long winter = createInstant(2008, 1, 1, ZoneOffset.UTC).getEpochSecond();
+        long summer = createInstant(2008, 7, 1, ZoneOffset.UTC).getEpochSecond();
+        int[] offsets = {-1, -1, -1, -1};
+        test.getOffsets(new long[] {winter, summer, winter, summer}, 1, 3, offsets);
+        assertTrue(Arrays.equals(offsets, new int[] {-1, 3600, 0, -1}));
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_getOffsets_outputTooSmall() {
+        europeLondon().getOffsets(new long[4], 0, 4, new int[3]);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_getOffsets_fromAfterTo() {
+        europeLondon().getOffsets(new long[4], 3, 2, new int[4]);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_getOffsets_tooLarge() {
+        europeLondon().getOffsets(new long[] {Instant.MAX.getEpochSecond() + 1}, 0, 1, new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getOffsets_null() {
+        europeLondon().getOffsets(null, 0, 0, new int[0]);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_toEpochSeconds_matchesLocalDateTime() {
+        for (String zoneId : new String[] {"Europe/London", "America/New_York", "Australia/Lord_Howe", "Europe/Moscow"}) {
+            ZoneId zone = ZoneId.of(zoneId);
+            ZoneRules rules = zone.getRules();
+            List<Long> values = new ArrayList<Long>();
+            long start = LocalDateTime.of(1800, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+            long end = LocalDateTime.of(2100, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+            for (long localSecond = start; localSecond < end; localSecond += 7 * 86400 + 1801) {
+                values.add(localSecond);
+            }
+            ZoneOffsetTransition trans = rules.nextTransition(Instant.ofEpochSecond(start));
+            while (trans != null && trans.getDateTimeBefore().getYear() < 2100) {
+                long localBefore = trans.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC);
+                long localAfter = trans.getDateTimeAfter().toEpochSecond(ZoneOffset.UTC);
+                long min = Math.min(localBefore, localAfter);
+                long max = Math.max(localBefore, localAfter);
+                for (long localSecond : new long[] {min - 1, min, min + 1, (min + max) / 2, max - 1, max, max + 1}) {
+                    values.add(localSecond);
+                }
+                trans = rules.nextTransition(trans.getInstant());
+            }
+            Collections.sort(values);
+            long[] sorted = new long[values.size()];
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = values.get(i);
+            }
+            long[] unsorted = sorted.clone();
+            Random random = new Random(3);
+            for (int i = unsorted.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                long tmp = unsorted[i];
+                unsorted[i] = unsorted[j];
+                unsorted[j] = tmp;
+            }
+            for (GapOverlapPolicy policy : new GapOverlapPolicy[] {GapOverlapPolicy.EARLIER, GapOverlapPolicy.LATER, GapOverlapPolicy.SHIFT}) {
+                for (long[] localSeconds : new long[][] {sorted, unsorted}) {
+                    long[] test = localSeconds.clone();
+                    rules.toEpochSeconds(test, 0, test.length, policy);
+                    for (int i = 0; i < test.length; i++) {
+                        LocalDateTime ldt = LocalDateTime.ofEpochSecond(localSeconds[i], 0, ZoneOffset.UTC);
+                        assertEquals(test[i], expectedEpochSecond(zone, ldt, policy), zoneId + " " + ldt + " " + policy);
+                    }
+                }
+            }
+        }
+    }
+
+    private long expectedEpochSecond(ZoneId zone, LocalDateTime ldt, GapOverlapPolicy policy) {
+        ZoneRules rules = zone.getRules();
+        List<ZoneOffset> validOffsets = rules.getValidOffsets(ldt);
+        if (validOffsets.size() == 1) {
+            return ldt.toEpochSecond(validOffsets.get(0));
+        }
+        ZoneOffsetTransition trans = rules.getTransition(ldt);
+        long before = ldt.toEpochSecond(trans.getOffsetBefore());
+        long after = ldt.toEpochSecond(trans.getOffsetAfter());
+        switch (policy) {
+            case EARLIER:
+                return Math.min(before, after);
+            case LATER:
+                return Math.max(before, after);
+            default:
+                return ZonedDateTime.of(ldt, zone).toEpochSecond();
+        }
+    }
+
+    public void test_toEpochSeconds_reject() {
+        ZoneRules test = europeLondon();
+        long winter = LocalDateTime.of(2008, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long summer = LocalDateTime.of(2008, 7, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long gap = LocalDateTime.of(2008, 3, 30, 1, 30).toEpochSecond(ZoneOffset.UTC);
+        long overlap = LocalDateTime.of(2008, 10, 26, 1, 30).toEpochSecond(ZoneOffset.UTC);
+        long[] localSeconds = {winter, summer};
+        test.toEpochSeconds(localSeconds, 0, 2, GapOverlapPolicy.REJECT);
+        assertTrue(Arrays.equals(localSeconds, new long[] {winter, summer - 3600}));
+        for (long localSecond : new long[] {gap, overlap}) {
+            try {
+                test.toEpochSeconds(new long[] {localSecond}, 0, 1, GapOverlapPolicy.REJECT);
+                fail();
+            } catch (DateTimeException ex) {
+                // expected
+            }
+        }
+    }
+
+    public void test_toEpochSeconds_subRange() {
+        ZoneRules test = europeLondon();
+        long summer = LocalDateTime.of(2008, 7, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long[] localSeconds = {summer, summer, summer};
+        test.toEpochSeconds(localSeconds, 1, 2, GapOverlapPolicy.SHIFT);
+        assertTrue(Arrays.equals(localSeconds, new long[] {summer, summer - 3600, summer}));
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_toEpochSeconds_toAfterLength() {
+        europeLondon().toEpochSeconds(new long[2], 0, 3, GapOverlapPolicy.SHIFT);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_toEpochSeconds_tooLarge() {
+        long max = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+        europeLondon().toEpochSeconds(new long[] {max + 1}, 0, 1, GapOverlapPolicy.SHIFT);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochSeconds_nullPolicy() {
+        europeLondon().toEpochSeconds(new long[1], 0, 1, null);
+    }
+
     //-------------------------------------------------------------------------
     @Test(expectedExceptions=UnsupportedOperationException.class)
     public void test_getTransitions_immutable() {
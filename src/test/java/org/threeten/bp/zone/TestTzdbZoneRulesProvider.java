@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test TzdbZoneRulesProvider.
+ */
+@Test
+public class TestTzdbZoneRulesProvider {
+
+    private static final URL TZDB = TzdbZoneRulesProvider.class.getResource("/org/threeten/bp/TZDB.dat");
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_load_url() {
+        assertProvider(new TzdbZoneRulesProvider(TZDB));
+    }
+
+    @Test
+    public void test_load_stream() throws Exception {
+        InputStream in = TZDB.openStream();
+        try {
+            assertProvider(new TzdbZoneRulesProvider(in));
+        } finally {
+            in.close();
+        }
+    }
+
+    @Test
+    public void test_load_file() throws Exception {
+        assertProvider(new TzdbZoneRulesProvider(new File(TZDB.toURI())));
+    }
+
+    @Test(expectedExceptions = ZoneRulesException.class)
+    public void test_load_file_missing() {
+        new TzdbZoneRulesProvider(new File("does-not-exist/TZDB.dat"));
+    }
+
+    @Test(expectedExceptions = ZoneRulesException.class)
+    public void test_load_stream_invalid() {
+        new TzdbZoneRulesProvider(new ByteArrayInputStream(new byte[] {2, 0, 0}));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_load_v2_stream() throws Exception {
+        assertProvider(new TzdbZoneRulesProvider(new ByteArrayInputStream(createV2())));
+    }
+
+    @Test
+    public void test_load_v2_file() throws Exception {
+        File file = File.createTempFile("TZDB", ".dat");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            try {
+                out.write(createV2());
+            } finally {
+                out.close();
+            }
+            assertProvider(new TzdbZoneRulesProvider(file));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void test_load_v2_versions() throws Exception {
+        TzdbZoneRulesProvider test = new TzdbZoneRulesProvider(new ByteArrayInputStream(createV2()));
+        NavigableMap<String, ZoneRules> versions = test.provideVersions("Europe/London");
+        assertEquals(versions.keySet(), new TreeSet<String>(Arrays.asList("2000a", "2001a")));
+        assertEquals(test.provideVersions("Europe/Paris").keySet(), Collections.singleton("2001a"));
+        assertNull(test.provideVersions("Europe/Unknown").lastEntry());
+    }
+
+    @Test(expectedExceptions = ZoneRulesException.class)
+    public void test_load_v2_unknownZone() throws Exception {
+        new TzdbZoneRulesProvider(new ByteArrayInputStream(createV2())).provideRules("Europe/Unknown", false);
+    }
+
+    private byte[] createV2() throws Exception {
+        SortedMap<String, ZoneRules> latest = new TreeMap<String, ZoneRules>();
+        for (String zoneId : ZoneRulesProvider.getAvailableZoneIds()) {
+            latest.put(zoneId, ZoneRulesProvider.getRules(zoneId, false));
+        }
+        SortedMap<String, ZoneRules> older = new TreeMap<String, ZoneRules>(latest);
+        older.remove("Europe/Paris");
+        Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<String, SortedMap<String, ZoneRules>>();
+        allBuiltZones.put("2000a", older);
+        allBuiltZones.put("2001a", latest);
+        Set<ZoneRules> allRules = new HashSet<ZoneRules>(latest.values());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        TzdbZoneRulesCompiler.outputTzdbDatV2(baos, allBuiltZones, new TreeSet<String>(latest.keySet()), allRules);
+        return baos.toByteArray();
+    }
+
+    private void assertProvider(TzdbZoneRulesProvider test) {
+        assertEquals(test.provideZoneIds(), ZoneRulesProvider.getAvailableZoneIds());
+        for (String zoneId : test.provideZoneIds()) {
+            assertEquals(test.provideRules(zoneId, false), ZoneRulesProvider.getRules(zoneId, false));
+        }
+        ZoneRules rules = test.provideRules("Europe/London", false);
+        assertSame(test.provideRules("Europe/London", false), rules);
+        assertEquals(test.provideVersions("Europe/London").lastEntry().getValue(), rules);
+    }
+
+}
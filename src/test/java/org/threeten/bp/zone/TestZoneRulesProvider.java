@@ -33,16 +33,25 @@ package org.threeten.bp.zone;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.testng.annotations.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.ZoneId;
 import org.threeten.bp.ZoneOffset;
 
 /**
@@ -116,6 +125,133 @@ public class TestZoneRulesProvider {
         ZoneRulesProvider.getVersions(null);
     }
 
+    //-----------------------------------------------------------------------
+    // preload(Set, Executor)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_preload() {
+        Set<String> zoneIds = new HashSet<String>(Arrays.asList("Europe/London", "America/New_York", "Asia/Tokyo"));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Map<String, Duration> test = ZoneRulesProvider.preload(zoneIds, executor);
+            assertEquals(test.keySet(), zoneIds);
+            for (Duration duration : test.values()) {
+                assertEquals(duration.isNegative(), false);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_preload_empty() {
+        assertEquals(ZoneRulesProvider.preload(Collections.<String>emptySet(), new DirectExecutor()).isEmpty(), true);
+    }
+
+    @Test(expectedExceptions=ZoneRulesException.class)
+    public void test_preload_unknownId() {
+        ZoneRulesProvider.preload(Collections.singleton("Europe/Lon"), new DirectExecutor());
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_preload_nullExecutor() {
+        ZoneRulesProvider.preload(Collections.singleton("Europe/London"), null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_preload_nullIdSubmitsNothing() {
+        CountingExecutor executor = new CountingExecutor(Integer.MAX_VALUE);
+        try {
+            ZoneRulesProvider.preload(new HashSet<String>(Arrays.asList("Europe/London", null)), executor);
+        } finally {
+            assertEquals(executor.count, 0);
+        }
+    }
+
+    @Test
+    public void test_preload_unknownIdSubmitsNothing() {
+        CountingExecutor executor = new CountingExecutor(Integer.MAX_VALUE);
+        try {
+            ZoneRulesProvider.preload(new HashSet<String>(Arrays.asList("Europe/London", "Europe/Lon")), executor);
+            fail();
+        } catch (ZoneRulesException ex) {
+            assertEquals(executor.count, 0);
+        }
+    }
+
+    @Test
+    public void test_preload_rejected() {
+        CountingExecutor executor = new CountingExecutor(1);
+        try {
+            ZoneRulesProvider.preload(new HashSet<String>(Arrays.asList("Europe/London", "Europe/Paris")), executor);
+            fail();
+        } catch (ZoneRulesException ex) {
+            assertTrue(ex.getCause() instanceof RejectedExecutionException);
+            assertEquals(executor.count, 1);
+        }
+    }
+
+    @Test
+    public void test_preload_error() {
+        ZoneRulesProvider.registerProvider(new MockErrorProvider());
+        Set<String> zoneIds = new HashSet<String>(Arrays.asList("Europe/London", "PreloadErrorLocation"));
+        MockErrorProvider.ARMED.set(Boolean.TRUE);
+        try {
+            ZoneRulesProvider.preload(zoneIds, new DirectExecutor());
+            fail();
+        } catch (LinkageError ex) {
+            assertEquals(ex.getMessage(), "PreloadErrorLocation");
+        } finally {
+            MockErrorProvider.ARMED.remove();
+        }
+    }
+
+    static class DirectExecutor implements Executor {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    }
+
+    static class CountingExecutor implements Executor {
+        final int limit;
+        int count;
+        CountingExecutor(int limit) {
+            this.limit = limit;
+        }
+        @Override
+        public void execute(Runnable command) {
+            if (count == limit) {
+                throw new RejectedExecutionException();
+            }
+            count++;
+            command.run();
+        }
+    }
+
+    static class MockErrorProvider extends ZoneRulesProvider {
+        // only fails on the thread running the test, as other tests query all zone IDs
+        static final ThreadLocal<Boolean> ARMED = new ThreadLocal<Boolean>();
+        final ZoneRules rules = ZoneOffset.of("+02:15").getRules();
+        @Override
+        public Set<String> provideZoneIds() {
+            return new HashSet<String>(Collections.singleton("PreloadErrorLocation"));
+        }
+        @Override
+        protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+            NavigableMap<String, ZoneRules> result = new TreeMap<String, ZoneRules>();
+            result.put("BarVersion", rules);
+            return result;
+        }
+        @Override
+        protected ZoneRules provideRules(String zoneId, boolean forCaching) {
+            if (ARMED.get() != null) {
+                throw new LinkageError(zoneId);
+            }
+            return rules;
+        }
+    }
+
     //-----------------------------------------------------------------------
     // refresh()
     //-----------------------------------------------------------------------
@@ -124,6 +260,53 @@ public class TestZoneRulesProvider {
         assertEquals(ZoneRulesProvider.refresh(), false);
     }
 
+    @Test
+    public void test_refresh_discardsSharedZoneId() {
+        MockRefreshProvider provider = new MockRefreshProvider();
+        ZoneRulesProvider.registerProvider(provider);
+        ZoneId pre = ZoneId.of("RefreshLocation");
+        assertSame(ZoneId.of("RefreshLocation"), pre);
+        assertEquals(pre.getRules(), ZoneOffset.of("+01:00").getRules());
+
+        int count = ZoneRulesProvider.getRefreshCount();
+        provider.rules = ZoneOffset.of("+02:00").getRules();
+        assertEquals(ZoneRulesProvider.refresh(), true);
+        assertEquals(ZoneRulesProvider.getRefreshCount(), count + 1);
+        ZoneId post = ZoneId.of("RefreshLocation");
+        assertEquals(post.getRules(), ZoneOffset.of("+02:00").getRules());
+        assertEquals(ZoneRulesProvider.refresh(), false);
+        assertEquals(ZoneRulesProvider.getRefreshCount(), count + 1);
+        assertSame(ZoneId.of("RefreshLocation"), post);
+    }
+
+    static class MockRefreshProvider extends ZoneRulesProvider {
+        volatile ZoneRules rules = ZoneOffset.of("+01:00").getRules();
+        volatile ZoneRules provided = rules;
+        @Override
+        public Set<String> provideZoneIds() {
+            return new HashSet<String>(Collections.singleton("RefreshLocation"));
+        }
+        @Override
+        protected NavigableMap<String, ZoneRules> provideVersions(String zoneId) {
+            NavigableMap<String, ZoneRules> result = new TreeMap<String, ZoneRules>();
+            result.put("BarVersion", provided);
+            return result;
+        }
+        @Override
+        protected ZoneRules provideRules(String zoneId, boolean forCaching) {
+            if (zoneId.equals("RefreshLocation")) {
+                return provided;
+            }
+            throw new ZoneRulesException("Invalid");
+        }
+        @Override
+        protected boolean provideRefresh() {
+            boolean changed = (provided != rules);
+            provided = rules;
+            return changed;
+        }
+    }
+
     //-----------------------------------------------------------------------
     // registerProvider()
     //-----------------------------------------------------------------------